@@ -0,0 +1,47 @@
+package com.example.notes.benchmark;
+
+import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.NoteId;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+final class BenchmarkNotes {
+
+    private BenchmarkNotes() {
+    }
+
+    static String content(int length) {
+        StringBuilder content = new StringBuilder(length);
+        while (content.length() < length) {
+            content.append("Lorem ipsum dolor sit amet, consectetur adipiscing elit. ");
+        }
+        content.setLength(length);
+        return content.toString();
+    }
+
+    // Pasted application logs: repetitive structure with varying timestamps, ids and latencies.
+    static String logContent(int length) {
+        StringBuilder content = new StringBuilder(length);
+        for (int line = 0; content.length() < length; line++) {
+            content.append(String.format("2024-01-01T12:%02d:%02d.%03dZ INFO  [worker-%d] GET /v1/notes/%08x 200 %d ms%n",
+                    line / 60 % 60, line % 60, line * 37 % 1000, line % 16, line * 2654435761L & 0xffffffffL, line * 7 % 250));
+        }
+        content.setLength(length);
+        return content.toString();
+    }
+
+    static Note note(int contentLength) {
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        return Note.reconstitute(NoteId.generate(), "Benchmark note", content(contentLength), now, now, List.of("work", "benchmark"), 3);
+    }
+
+    static List<Note> notes(int count, int contentLength) {
+        List<Note> notes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            notes.add(note(contentLength));
+        }
+        return notes;
+    }
+}
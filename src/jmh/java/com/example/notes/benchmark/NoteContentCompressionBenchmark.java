@@ -0,0 +1,66 @@
+package com.example.notes.benchmark;
+
+import com.example.notes.infrastructure.adapter.out.persistence.mapper.NoteContentCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU cost of storing a body compressed, per note written and read. {@code plainBytes} is the
+ * baseline the driver pays for a TEXT column; the compression ratio printed at setup is the
+ * share of bytes that no longer cross the wire or sit in shared buffers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NoteContentCompressionBenchmark {
+
+    @Param({"16384", "262144"})
+    int contentLength;
+
+    @Param({"1", "6"})
+    int level;
+
+    private NoteContentCodec codec;
+    private String content;
+    private byte[] compressed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        codec = new NoteContentCodec(true, 0, level);
+        content = BenchmarkNotes.logContent(contentLength);
+        compressed = codec.compress(content);
+        System.out.printf("%n# %d bytes -> %d bytes compressed (%.1fx)%n",
+                contentLength, compressed.length, (double) contentLength / compressed.length);
+    }
+
+    @Benchmark
+    public byte[] plainBytes() {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] compress() {
+        return codec.compress(content);
+    }
+
+    @Benchmark
+    public String decompress() {
+        return codec.decompress(compressed);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.notes.benchmark;
+
+import com.example.notes.domain.model.Note;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NoteDomainBenchmark {
+
+    private static final List<String> TAGS = List.of("work", "benchmark");
+
+    @Param({"100", "10000"})
+    int contentLength;
+
+    private String content;
+    private Note note;
+
+    @Setup
+    public void setUp() {
+        content = BenchmarkNotes.content(contentLength);
+        note = BenchmarkNotes.note(contentLength);
+    }
+
+    @Benchmark
+    public Note create() {
+        return Note.create("Benchmark note", content, TAGS);
+    }
+
+    @Benchmark
+    public Note update() {
+        return note.update("Updated note", content, TAGS);
+    }
+}
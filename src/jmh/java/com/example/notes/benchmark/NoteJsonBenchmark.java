@@ -0,0 +1,67 @@
+package com.example.notes.benchmark;
+
+import com.example.notes.domain.model.Note;
+import com.example.notes.infrastructure.adapter.in.rest.dto.NoteResponse;
+import com.example.notes.infrastructure.adapter.in.rest.mapper.NoteRestMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes a list page the way the REST layer does: domain notes mapped to {@link NoteResponse}
+ * and written with an ObjectMapper configured like the one Quarkus provides.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NoteJsonBenchmark {
+
+    @Param({"1", "50", "200"})
+    int notes;
+
+    @Param({"100", "10000"})
+    int contentLength;
+
+    private final NoteRestMapper mapper = new NoteRestMapper();
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private List<Note> domainPage;
+    private List<NoteResponse> page;
+
+    @Setup
+    public void setUp() {
+        domainPage = BenchmarkNotes.notes(notes, contentLength);
+        page = domainPage.stream()
+                .map(mapper::toResponse)
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(domainPage.stream().map(mapper::toResponse).toList());
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.notes.benchmark;
+
+import com.example.notes.domain.model.Note;
+import com.example.notes.infrastructure.adapter.in.rest.dto.NoteResponse;
+import com.example.notes.infrastructure.adapter.in.rest.mapper.NoteRestMapper;
+import com.example.notes.infrastructure.adapter.out.persistence.NoteJpaEntity;
+import com.example.notes.infrastructure.adapter.out.persistence.mapper.NoteContentCodec;
+import com.example.notes.infrastructure.adapter.out.persistence.mapper.NotePersistenceMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NoteMapperBenchmark {
+
+    @Param({"100", "10000"})
+    int contentLength;
+
+    private final NoteRestMapper restMapper = new NoteRestMapper();
+    private final NotePersistenceMapper persistenceMapper = new NotePersistenceMapper(new NoteContentCodec(false, 16384, 1));
+    private Note note;
+    private NoteJpaEntity entity;
+
+    @Setup
+    public void setUp() {
+        note = BenchmarkNotes.note(contentLength);
+        entity = persistenceMapper.toNewJpaEntity(note);
+    }
+
+    @Benchmark
+    public NoteResponse restToResponse() {
+        return restMapper.toResponse(note);
+    }
+
+    @Benchmark
+    public Note persistenceToDomainEntity() {
+        return persistenceMapper.toDomainEntity(entity);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.notes.benchmark;
+
+import com.example.notes.infrastructure.adapter.in.proto.NoteMessages;
+import com.example.notes.infrastructure.adapter.in.rest.dto.NoteResponse;
+import com.example.notes.infrastructure.adapter.in.rest.mapper.NoteProtobufMapper;
+import com.example.notes.infrastructure.adapter.in.rest.mapper.NoteRestMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodes and decodes a list page in each representation the REST layer offers. The Jackson
+ * formats share one configuration, as the providers copy the JSON ObjectMapper; protobuf goes
+ * through the generated messages, which it decodes into instead of the DTOs. The payload size per
+ * format is printed at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NoteWireFormatBenchmark {
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    String format;
+
+    @Param({"50"})
+    int notes;
+
+    @Param({"100", "10000"})
+    int contentLength;
+
+    private ObjectMapper objectMapper;
+    private ObjectReader pageReader;
+    private NoteProtobufMapper protobufMapper;
+    private List<NoteResponse> page;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ObjectMapper json = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper = switch (format) {
+            case "cbor" -> json.copyWith(new CBORFactory());
+            case "smile" -> json.copyWith(new SmileFactory());
+            default -> json;
+        };
+        pageReader = objectMapper.readerFor(new TypeReference<List<NoteResponse>>() { });
+        protobufMapper = new NoteProtobufMapper();
+        NoteRestMapper mapper = new NoteRestMapper();
+        page = BenchmarkNotes.notes(notes, contentLength).stream()
+                .map(mapper::toResponse)
+                .toList();
+        encoded = encode();
+        System.out.printf("%n# %s: %d notes of %d chars -> %d bytes%n", format, notes, contentLength, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        if (format.equals("protobuf")) {
+            return protobufMapper.toMessage(page).toByteArray();
+        }
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        if (format.equals("protobuf")) {
+            return NoteMessages.NoteList.parseFrom(encoded);
+        }
+        return pageReader.readValue(encoded);
+    }
+}
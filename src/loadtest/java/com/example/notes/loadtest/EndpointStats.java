@@ -0,0 +1,71 @@
+package com.example.notes.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency distribution and error count for one endpoint. Recording is lock-free, so workers
+ * can share one instance.
+ */
+final class EndpointStats {
+
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final String name;
+    private final Recorder recorder = new Recorder(MAX_LATENCY_NANOS, 3);
+    private final LongAdder errors = new LongAdder();
+    private Histogram histogram;
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    String name() {
+        return name;
+    }
+
+    void record(long latencyNanos, boolean success) {
+        recorder.recordValue(Math.min(latencyNanos, MAX_LATENCY_NANOS));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    void reset() {
+        recorder.reset();
+        errors.reset();
+    }
+
+    void finish() {
+        histogram = recorder.getIntervalHistogram();
+    }
+
+    void printSummary(PrintStream out, double seconds) {
+        out.printf("%-22s %9d req %10.1f req/s %7d err   p50 %8.2f  p90 %8.2f  p99 %8.2f  p99.9 %8.2f  max %8.2f ms%n",
+                name,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds,
+                errors.sum(),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    void printDistribution(PrintStream out) {
+        histogram.outputPercentileDistribution(out, 1_000_000.0);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
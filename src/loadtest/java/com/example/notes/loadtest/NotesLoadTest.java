@@ -0,0 +1,185 @@
+package com.example.notes.loadtest;
+
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Drives a read-heavy CRUD mix against {@code /v1/notes} on the H2 test setup and reports
+ * throughput and HdrHistogram latencies per endpoint. Only runs with {@code -Ploadtest}:
+ *
+ * <pre>
+ * mvn -Ploadtest test -Dloadtest.concurrency=64 -Dloadtest.duration=PT60S
+ * mvn -Ploadtest test -Dquarkus.virtual-threads.enabled=true
+ * mvn -Ploadtest test -Dnotes.cache.enabled=false
+ * </pre>
+ *
+ * Full percentile distributions are written to {@code target/loadtest/*.hgrm}.
+ */
+@QuarkusTest
+@Tag("loadtest")
+public class NotesLoadTest {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*\"([0-9a-f-]{36})\"");
+    private static final int SHARED_IDS = 10_000;
+
+    private final int concurrency = Integer.getInteger("loadtest.concurrency", 32);
+    private final Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+    private final Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT30S"));
+    private final int seedNotes = Math.max(1, Integer.getInteger("loadtest.seed-notes", 1_000));
+
+    private final EndpointStats create = new EndpointStats("POST /v1/notes");
+    private final EndpointStats get = new EndpointStats("GET /v1/notes/{id}");
+    private final EndpointStats list = new EndpointStats("GET /v1/notes");
+    private final EndpointStats update = new EndpointStats("PUT /v1/notes/{id}");
+    private final EndpointStats delete = new EndpointStats("DELETE /v1/notes/{id}");
+    private final List<EndpointStats> endpoints = List.of(create, get, list, update, delete);
+
+    // Long-lived notes every worker reads and updates; each worker deletes only notes it created itself.
+    private final AtomicReferenceArray<String> sharedIds = new AtomicReferenceArray<>(SHARED_IDS);
+    private final AtomicLong sharedCount = new AtomicLong();
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @TestHTTPResource("/v1/notes")
+    URI notesUri;
+
+    @Test
+    public void runCrudMix() throws Exception {
+        for (int i = 0; i < seedNotes; i++) {
+            share(create(null));
+        }
+
+        run(warmup);
+        endpoints.forEach(EndpointStats::reset);
+        long start = System.nanoTime();
+        run(duration);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        endpoints.forEach(EndpointStats::finish);
+
+        report(seconds);
+        // Shared notes are never deleted, so every request in the mix has a well-defined expected status.
+        assertEquals(0, endpoints.stream().mapToLong(EndpointStats::errors).sum(), "requests with unexpected status");
+    }
+
+    private void run(Duration length) throws Exception {
+        long deadline = System.nanoTime() + length.toNanos();
+        try (ExecutorService workers = Executors.newFixedThreadPool(concurrency)) {
+            Future<?>[] futures = new Future<?>[concurrency];
+            for (int i = 0; i < concurrency; i++) {
+                futures[i] = workers.submit(() -> work(deadline));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    // 50% single reads, 20% list pages, 15% creates, 10% updates, 5% deletes.
+    private Void work(long deadline) throws IOException, InterruptedException {
+        Deque<String> ownIds = new ArrayDeque<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            int roll = random.nextInt(100);
+            if (roll < 50) {
+                send(get, HttpRequest.newBuilder(noteUri(randomSharedId())).GET(), 200);
+            } else if (roll < 70) {
+                send(list, HttpRequest.newBuilder(URI.create(notesUri + "?limit=50")).GET(), 200);
+            } else if (roll < 85) {
+                String id = create(create);
+                if (id != null && random.nextBoolean()) {
+                    ownIds.push(id);
+                } else if (id != null) {
+                    share(id);
+                }
+            } else if (roll < 95) {
+                send(update, HttpRequest.newBuilder(noteUri(randomSharedId()))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(body("Updated"))), 200);
+            } else if (!ownIds.isEmpty()) {
+                send(delete, HttpRequest.newBuilder(noteUri(ownIds.pop())).DELETE(), 204);
+            }
+        }
+        return null;
+    }
+
+    private String create(EndpointStats stats) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(notesUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body("Load test")));
+        HttpResponse<String> response = send(stats, request, 201);
+        Matcher matcher = ID.matcher(response.body());
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private HttpResponse<String> send(EndpointStats stats, HttpRequest.Builder request, int expectedStatus)
+            throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (stats != null) {
+            stats.record(System.nanoTime() - start, response.statusCode() == expectedStatus);
+        }
+        return response;
+    }
+
+    private void share(String id) {
+        if (id != null) {
+            sharedIds.set((int) (sharedCount.getAndIncrement() % SHARED_IDS), id);
+        }
+    }
+
+    private String randomSharedId() {
+        int filled = (int) Math.min(sharedCount.get(), SHARED_IDS);
+        String id = sharedIds.get(ThreadLocalRandom.current().nextInt(filled));
+        // The slot may be claimed but not yet written; slot 0 is always filled by seeding.
+        return id != null ? id : sharedIds.get(0);
+    }
+
+    private URI noteUri(String id) {
+        return URI.create(notesUri + "/" + id);
+    }
+
+    private static String body(String title) {
+        String content = "Lorem ipsum dolor sit amet. ".repeat(ThreadLocalRandom.current().nextInt(1, 40));
+        return "{\"title\": \"" + title + "\", \"content\": \"" + content + "\", \"tags\": [\"load\"]}";
+    }
+
+    private void report(double seconds) throws IOException {
+        PrintStream out = System.out;
+        out.printf("%nLoad test: %d workers, %.1f s measured after %s warmup%n", concurrency, seconds, warmup);
+        endpoints.forEach(stats -> stats.printSummary(out, seconds));
+
+        Path directory = Path.of("target", "loadtest");
+        Files.createDirectories(directory);
+        for (EndpointStats stats : endpoints) {
+            String file = stats.name().replaceAll("[^A-Za-z]+", "-").replaceAll("^-|-$", "") + ".hgrm";
+            try (PrintStream distribution = new PrintStream(Files.newOutputStream(directory.resolve(file)))) {
+                stats.printDistribution(distribution);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.notes.application.port.in;
+
+import com.example.notes.application.port.in.CreateNoteUseCase.CreateNoteCommand;
+import com.example.notes.domain.model.Note;
+
+import java.util.List;
+
+public interface CreateNotesUseCase {
+
+    int MAX_BATCH_SIZE = 5000;
+
+    /**
+     * Creates every valid note in one transaction. Results line up with {@code commands}; an
+     * invalid command is reported in its slot without failing the rest of the batch.
+     */
+    List<CreateNoteResult> createNotes(List<CreateNoteCommand> commands);
+
+    record CreateNoteResult(Note note, String error) {
+
+        public static CreateNoteResult created(Note note) {
+            return new CreateNoteResult(note, null);
+        }
+
+        public static CreateNoteResult rejected(String error) {
+            return new CreateNoteResult(null, error);
+        }
+
+        public boolean isCreated() {
+            return note != null;
+        }
+    }
+}
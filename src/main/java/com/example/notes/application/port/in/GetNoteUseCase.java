@@ -1,10 +1,25 @@
 package com.example.notes.application.port.in;
 
 import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.NoteField;
+import com.example.notes.domain.model.NoteVersion;
+import com.example.notes.domain.model.PartialNote;
 
+import java.util.Set;
 import java.util.UUID;
 
 public interface GetNoteUseCase {
 
     Note getNote(UUID id);
+
+    /**
+     * Reads only the requested fields of the note.
+     */
+    PartialNote getPartialNote(UUID id, Set<NoteField> fields);
+
+    /**
+     * Returns the note's revision and modification time without loading its content, for cheap
+     * freshness checks.
+     */
+    NoteVersion getNoteVersion(UUID id);
 }
@@ -1,10 +1,34 @@
 package com.example.notes.application.port.in;
 
-import com.example.notes.domain.model.Note;
+import com.example.notes.domain.exception.NoteValidationException;
+import com.example.notes.domain.model.NoteCursor;
+import com.example.notes.domain.model.NoteField;
+import com.example.notes.domain.model.NotePage;
+import com.example.notes.domain.model.NoteSummaryPage;
+import com.example.notes.domain.model.PartialNotePage;
+import com.example.notes.domain.model.TagFilter;
 
-import java.util.List;
+import java.util.Set;
 
 public interface ListNotesUseCase {
 
-    List<Note> listNotes();
+    NotePage listNotes(ListNotesQuery query);
+
+    NoteSummaryPage listNoteSummaries(ListNotesQuery query);
+
+    PartialNotePage listPartialNotes(ListNotesQuery query, Set<NoteField> fields);
+
+    record ListNotesQuery(NoteCursor after, TagFilter tags, int limit) {
+
+        public static final int MAX_LIMIT = 200;
+
+        public ListNotesQuery {
+            if (tags == null) {
+                tags = TagFilter.none();
+            }
+            if (limit < 1 || limit > MAX_LIMIT) {
+                throw new NoteValidationException("Limit must be between 1 and " + MAX_LIMIT);
+            }
+        }
+    }
 }
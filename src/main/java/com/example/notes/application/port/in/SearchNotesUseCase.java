@@ -0,0 +1,25 @@
+package com.example.notes.application.port.in;
+
+import com.example.notes.domain.exception.NoteValidationException;
+import com.example.notes.domain.model.NoteSearchHit;
+
+import java.util.List;
+
+public interface SearchNotesUseCase {
+
+    List<NoteSearchHit> searchNotes(SearchNotesQuery query);
+
+    record SearchNotesQuery(String text, int limit) {
+
+        public static final int MAX_LIMIT = 100;
+
+        public SearchNotesQuery {
+            if (text == null || text.isBlank()) {
+                throw new NoteValidationException("Search text is required");
+            }
+            if (limit < 1 || limit > MAX_LIMIT) {
+                throw new NoteValidationException("Limit must be between 1 and " + MAX_LIMIT);
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.notes.application.port.in;
+
+import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.NoteCursor;
+import com.example.notes.domain.model.TagFilter;
+
+import java.util.function.Consumer;
+
+public interface StreamNotesUseCase {
+
+    /**
+     * Hands every note after {@code after} (or all notes when null) that matches {@code tags}
+     * to {@code consumer}, newest first, one at a time while the underlying cursor is still open.
+     */
+    void streamNotes(NoteCursor after, TagFilter tags, Consumer<Note> consumer);
+}
@@ -9,6 +9,9 @@ public interface UpdateNoteUseCase {
 
     Note updateNote(UUID id, UpdateNoteCommand command);
 
-    record UpdateNoteCommand(String title, String content, List<String> tags) {
+    /**
+     * @param expectedVersion the version the caller last saw, or null to update whatever version is stored
+     */
+    record UpdateNoteCommand(String title, String content, List<String> tags, Long expectedVersion) {
     }
 }
@@ -0,0 +1,10 @@
+package com.example.notes.application.port.in.reactive;
+
+import com.example.notes.application.port.in.CreateNoteUseCase.CreateNoteCommand;
+import com.example.notes.domain.model.Note;
+import io.smallrye.mutiny.Uni;
+
+public interface ReactiveCreateNoteUseCase {
+
+    Uni<Note> createNote(CreateNoteCommand command);
+}
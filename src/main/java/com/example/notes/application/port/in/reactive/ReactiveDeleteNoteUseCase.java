@@ -0,0 +1,10 @@
+package com.example.notes.application.port.in.reactive;
+
+import io.smallrye.mutiny.Uni;
+
+import java.util.UUID;
+
+public interface ReactiveDeleteNoteUseCase {
+
+    Uni<Void> deleteNote(UUID id);
+}
@@ -0,0 +1,14 @@
+package com.example.notes.application.port.in.reactive;
+
+import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.NoteVersion;
+import io.smallrye.mutiny.Uni;
+
+import java.util.UUID;
+
+public interface ReactiveGetNoteUseCase {
+
+    Uni<Note> getNote(UUID id);
+
+    Uni<NoteVersion> getNoteVersion(UUID id);
+}
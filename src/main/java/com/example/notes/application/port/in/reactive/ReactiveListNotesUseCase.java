@@ -0,0 +1,10 @@
+package com.example.notes.application.port.in.reactive;
+
+import com.example.notes.application.port.in.ListNotesUseCase.ListNotesQuery;
+import com.example.notes.domain.model.NotePage;
+import io.smallrye.mutiny.Uni;
+
+public interface ReactiveListNotesUseCase {
+
+    Uni<NotePage> listNotes(ListNotesQuery query);
+}
@@ -0,0 +1,15 @@
+package com.example.notes.application.port.in.reactive;
+
+import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.NoteCursor;
+import com.example.notes.domain.model.TagFilter;
+import io.smallrye.mutiny.Multi;
+
+public interface ReactiveStreamNotesUseCase {
+
+    /**
+     * Emits every note after {@code after} (or all notes when null) that matches {@code tags},
+     * newest first, pulling rows from a database cursor as the subscriber requests them.
+     */
+    Multi<Note> streamNotes(NoteCursor after, TagFilter tags);
+}
@@ -0,0 +1,12 @@
+package com.example.notes.application.port.in.reactive;
+
+import com.example.notes.application.port.in.UpdateNoteUseCase.UpdateNoteCommand;
+import com.example.notes.domain.model.Note;
+import io.smallrye.mutiny.Uni;
+
+import java.util.UUID;
+
+public interface ReactiveUpdateNoteUseCase {
+
+    Uni<Note> updateNote(UUID id, UpdateNoteCommand command);
+}
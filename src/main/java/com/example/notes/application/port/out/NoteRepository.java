@@ -1,20 +1,85 @@
 package com.example.notes.application.port.out;
 
 import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.NoteCursor;
+import com.example.notes.domain.model.NoteField;
 import com.example.notes.domain.model.NoteId;
+import com.example.notes.domain.model.NoteSearchHit;
+import com.example.notes.domain.model.NoteSummary;
+import com.example.notes.domain.model.NoteVersion;
+import com.example.notes.domain.model.PartialNote;
+import com.example.notes.domain.model.TagFilter;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface NoteRepository {
 
-    Note save(Note note);
+    /**
+     * Stores a note that has never been persisted, keeping the id it was created with.
+     */
+    Note insert(Note note);
+
+    /**
+     * Stores many new notes in JDBC batches. The persistence context is flushed and cleared
+     * between batches, so entities loaded earlier in the same transaction become detached.
+     */
+    void insertAll(List<Note> notes);
+
+    /**
+     * Overwrites an existing note. Fails with
+     * {@link com.example.notes.domain.exception.NoteVersionConflictException} unless the stored
+     * note is still at {@link Note#version()}.
+     */
+    Note update(Note note);
 
     Optional<Note> findById(NoteId id);
 
-    List<Note> findAll();
+    Optional<NoteVersion> findVersionById(NoteId id);
+
+    /**
+     * Reads the stored version and locks the row until the transaction ends, so an update based
+     * on it cannot lose a race against a concurrent writer. Never served from a cache.
+     */
+    Optional<NoteVersion> lockVersionById(NoteId id);
+
+    /**
+     * Reads only the columns behind {@code fields}, plus the fixed-width id, timestamps and version.
+     */
+    Optional<PartialNote> findPartialById(NoteId id, Set<NoteField> fields);
+
+    /**
+     * Returns up to {@code limit} notes matching {@code tags}, ordered newest first by
+     * {@code (createdAt, id)}, starting strictly after {@code after}, or from the beginning
+     * when {@code after} is null.
+     */
+    List<Note> findPage(NoteCursor after, TagFilter tags, int limit);
+
+    /**
+     * Same page as {@link #findPage}, projected to summaries without reading the note bodies.
+     */
+    List<NoteSummary> findSummaryPage(NoteCursor after, TagFilter tags, int limit);
+
+    /**
+     * Same page as {@link #findPage}, reading only the columns behind {@code fields}.
+     */
+    List<PartialNote> findPartialPage(NoteCursor after, TagFilter tags, int limit, Set<NoteField> fields);
+
+    /**
+     * Lazily streams all notes in the same order as {@link #findPage}. The stream holds an open
+     * database cursor and must be consumed inside a transaction and closed by the caller.
+     */
+    Stream<Note> streamAfter(NoteCursor after, TagFilter tags);
 
-    boolean existsById(NoteId id);
+    /**
+     * Full-text search over title and content, best match first, with a highlighted content snippet.
+     */
+    List<NoteSearchHit> search(String text, int limit);
 
-    void deleteById(NoteId id);
+    /**
+     * Deletes the note in a single statement and reports whether a row was actually removed.
+     */
+    boolean deleteById(NoteId id);
 }
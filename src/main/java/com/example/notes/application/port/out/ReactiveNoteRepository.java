@@ -0,0 +1,42 @@
+package com.example.notes.application.port.out;
+
+import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.NoteCursor;
+import com.example.notes.domain.model.NoteId;
+import com.example.notes.domain.model.NoteVersion;
+import com.example.notes.domain.model.TagFilter;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Non-blocking counterpart of {@link NoteRepository}. Lookups emit a null item when the note
+ * does not exist.
+ */
+public interface ReactiveNoteRepository {
+
+    Uni<Note> insert(Note note);
+
+    /**
+     * Overwrites an existing note. Fails with
+     * {@link com.example.notes.domain.exception.NoteVersionConflictException} unless the stored
+     * note is still at {@link Note#version()}.
+     */
+    Uni<Note> update(Note note);
+
+    Uni<Note> findById(NoteId id);
+
+    Uni<NoteVersion> findVersionById(NoteId id);
+
+    /**
+     * Emits up to {@code limit} notes in the order of {@link NoteRepository#findPage}.
+     */
+    Multi<Note> findPage(NoteCursor after, TagFilter tags, int limit);
+
+    /**
+     * Emits all notes in the same order as {@link #findPage}, read through a database cursor that
+     * is released when the stream completes, fails or is cancelled.
+     */
+    Multi<Note> streamAfter(NoteCursor after, TagFilter tags);
+
+    Uni<Boolean> deleteById(NoteId id);
+}
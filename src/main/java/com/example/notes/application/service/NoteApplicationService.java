@@ -1,39 +1,110 @@
 package com.example.notes.application.service;
 
 import com.example.notes.application.port.in.CreateNoteUseCase;
+import com.example.notes.application.port.in.CreateNotesUseCase;
 import com.example.notes.application.port.in.DeleteNoteUseCase;
 import com.example.notes.application.port.in.GetNoteUseCase;
 import com.example.notes.application.port.in.ListNotesUseCase;
+import com.example.notes.application.port.in.SearchNotesUseCase;
+import com.example.notes.application.port.in.StreamNotesUseCase;
 import com.example.notes.application.port.in.UpdateNoteUseCase;
 import com.example.notes.application.port.out.NoteRepository;
 import com.example.notes.domain.exception.NoteNotFoundException;
+import com.example.notes.domain.exception.NoteValidationException;
 import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.NoteCursor;
+import com.example.notes.domain.model.NoteField;
 import com.example.notes.domain.model.NoteId;
+import com.example.notes.domain.model.NotePage;
+import com.example.notes.domain.model.NoteSearchHit;
+import com.example.notes.domain.model.NoteSummary;
+import com.example.notes.domain.model.NoteSummaryPage;
+import com.example.notes.domain.model.NoteVersion;
+import com.example.notes.domain.model.PartialNote;
+import com.example.notes.domain.model.PartialNotePage;
+import com.example.notes.domain.model.TagFilter;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.instrumentation.annotations.SpanAttribute;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.transaction.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @ApplicationScoped
-public class NoteApplicationService implements CreateNoteUseCase, DeleteNoteUseCase, GetNoteUseCase, ListNotesUseCase, UpdateNoteUseCase {
+public class NoteApplicationService implements CreateNoteUseCase, CreateNotesUseCase, DeleteNoteUseCase, GetNoteUseCase, ListNotesUseCase, SearchNotesUseCase, StreamNotesUseCase, UpdateNoteUseCase {
+
+    static final String USE_CASE_TIMER = "notes.usecase";
+    static final String NOTE_ID_ATTRIBUTE = "note.id";
 
     private final NoteRepository noteRepository;
+    private final DistributionSummary listSize;
+    private final DistributionSummary listContentBytes;
 
-    public NoteApplicationService(NoteRepository noteRepository) {
+    public NoteApplicationService(NoteRepository noteRepository, MeterRegistry meterRegistry) {
         this.noteRepository = noteRepository;
+        this.listSize = DistributionSummary.builder("notes.list.size")
+                .description("Notes returned per list page")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.listContentBytes = DistributionSummary.builder("notes.list.content")
+                .description("UTF-8 size of the note content returned per list page")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     @Override
     @Transactional
+    @Timed(value = USE_CASE_TIMER, extraTags = {"operation", "create"}, histogram = true)
+    @WithSpan
     public Note createNote(CreateNoteCommand command) {
         Note note = Note.create(command.title(), command.content(), command.tags());
-        return noteRepository.save(note);
+        Span.current()
+                .setAttribute(NOTE_ID_ATTRIBUTE, note.id().toString())
+                .setAttribute("note.content.bytes", contentBytes(List.of(note)));
+        return noteRepository.insert(note);
+    }
+
+    @Override
+    @Transactional
+    @Timed(value = USE_CASE_TIMER, extraTags = {"operation", "create-batch"}, histogram = true)
+    @WithSpan
+    public List<CreateNoteResult> createNotes(List<CreateNoteCommand> commands) {
+        if (commands.isEmpty() || commands.size() > MAX_BATCH_SIZE) {
+            throw new NoteValidationException("A batch must contain between 1 and " + MAX_BATCH_SIZE + " notes");
+        }
+        Span.current().setAttribute("notes.batch.size", commands.size());
+        List<CreateNoteResult> results = new ArrayList<>(commands.size());
+        List<Note> notes = new ArrayList<>(commands.size());
+        for (CreateNoteCommand command : commands) {
+            try {
+                Note note = Note.create(command.title(), command.content(), command.tags());
+                notes.add(note);
+                results.add(CreateNoteResult.created(note));
+            } catch (NoteValidationException e) {
+                results.add(CreateNoteResult.rejected(e.getMessage()));
+            }
+        }
+        if (!notes.isEmpty()) {
+            noteRepository.insertAll(notes);
+        }
+        return results;
     }
 
     @Override
     @Transactional
-    public Note getNote(UUID id) {
+    @Timed(value = USE_CASE_TIMER, extraTags = {"operation", "get"}, histogram = true)
+    @WithSpan
+    public Note getNote(@SpanAttribute(NOTE_ID_ATTRIBUTE) UUID id) {
         NoteId noteId = NoteId.of(id);
         return noteRepository.findById(noteId)
                 .orElseThrow(() -> new NoteNotFoundException(id));
@@ -41,28 +112,119 @@ public class NoteApplicationService implements CreateNoteUseCase, DeleteNoteUseC
 
     @Override
     @Transactional
-    public List<Note> listNotes() {
-        return noteRepository.findAll();
+    @Timed(value = USE_CASE_TIMER, extraTags = {"operation", "get-partial"}, histogram = true)
+    @WithSpan
+    public PartialNote getPartialNote(@SpanAttribute(NOTE_ID_ATTRIBUTE) UUID id, Set<NoteField> fields) {
+        return noteRepository.findPartialById(NoteId.of(id), fields)
+                .orElseThrow(() -> new NoteNotFoundException(id));
+    }
+
+    @Override
+    @Transactional
+    @Timed(value = USE_CASE_TIMER, extraTags = {"operation", "get-version"}, histogram = true)
+    @WithSpan
+    public NoteVersion getNoteVersion(@SpanAttribute(NOTE_ID_ATTRIBUTE) UUID id) {
+        return noteRepository.findVersionById(NoteId.of(id))
+                .orElseThrow(() -> new NoteNotFoundException(id));
+    }
+
+    @Override
+    @Transactional
+    @Timed(value = USE_CASE_TIMER, extraTags = {"operation", "list"}, histogram = true)
+    @WithSpan
+    public NotePage listNotes(ListNotesQuery query) {
+        List<Note> notes = noteRepository.findPage(query.after(), query.tags(), query.limit() + 1);
+        NotePage page = NotePage.fromLookahead(notes, query.limit());
+        long bytes = contentBytes(page.notes());
+        listSize.record(page.notes().size());
+        listContentBytes.record(bytes);
+        Span.current()
+                .setAttribute("notes.result.size", page.notes().size())
+                .setAttribute("notes.content.bytes", bytes);
+        return page;
     }
 
     @Override
     @Transactional
-    public Note updateNote(UUID id, UpdateNoteCommand command) {
+    @Timed(value = USE_CASE_TIMER, extraTags = {"operation", "list-summaries"}, histogram = true)
+    @WithSpan
+    public NoteSummaryPage listNoteSummaries(ListNotesQuery query) {
+        List<NoteSummary> summaries = noteRepository.findSummaryPage(query.after(), query.tags(), query.limit() + 1);
+        NoteSummaryPage page = NoteSummaryPage.fromLookahead(summaries, query.limit());
+        listSize.record(page.summaries().size());
+        Span.current().setAttribute("notes.result.size", page.summaries().size());
+        return page;
+    }
+
+    @Override
+    @Transactional
+    @Timed(value = USE_CASE_TIMER, extraTags = {"operation", "list-partial"}, histogram = true)
+    @WithSpan
+    public PartialNotePage listPartialNotes(ListNotesQuery query, Set<NoteField> fields) {
+        List<PartialNote> notes = noteRepository.findPartialPage(query.after(), query.tags(), query.limit() + 1, fields);
+        PartialNotePage page = PartialNotePage.fromLookahead(notes, query.limit());
+        listSize.record(page.notes().size());
+        Span.current().setAttribute("notes.result.size", page.notes().size());
+        return page;
+    }
+
+    @Override
+    @Transactional
+    @Timed(value = USE_CASE_TIMER, extraTags = {"operation", "search"}, histogram = true)
+    @WithSpan
+    public List<NoteSearchHit> searchNotes(SearchNotesQuery query) {
+        List<NoteSearchHit> hits = noteRepository.search(query.text(), query.limit());
+        Span.current().setAttribute("notes.result.size", hits.size());
+        return hits;
+    }
+
+    @Override
+    @Transactional
+    @Timed(value = USE_CASE_TIMER, extraTags = {"operation", "stream"}, histogram = true)
+    @WithSpan
+    public void streamNotes(NoteCursor after, TagFilter tags, Consumer<Note> consumer) {
+        try (Stream<Note> notes = noteRepository.streamAfter(after, tags)) {
+            notes.forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional
+    @Timed(value = USE_CASE_TIMER, extraTags = {"operation", "update"}, histogram = true)
+    @WithSpan
+    public Note updateNote(@SpanAttribute(NOTE_ID_ATTRIBUTE) UUID id, UpdateNoteCommand command) {
         NoteId noteId = NoteId.of(id);
+        // The note may come from the cache and lag behind the row, so its version is never the one
+        // written against: the versioned UPDATE checks If-Match, and an unconditional update locks
+        // the row first so a concurrent writer queues behind it instead of failing it.
+        long version = command.expectedVersion() != null
+                ? command.expectedVersion()
+                : noteRepository.lockVersionById(noteId)
+                        .orElseThrow(() -> new NoteNotFoundException(id))
+                        .version();
         Note existingNote = noteRepository.findById(noteId)
                 .orElseThrow(() -> new NoteNotFoundException(id));
 
-        Note updatedNote = existingNote.update(command.title(), command.content(), command.tags());
-        return noteRepository.save(updatedNote);
+        Note updatedNote = existingNote.update(command.title(), command.content(), command.tags()).atVersion(version);
+        Span.current().setAttribute("note.content.bytes", contentBytes(List.of(updatedNote)));
+        return noteRepository.update(updatedNote);
     }
 
     @Override
     @Transactional
-    public void deleteNote(UUID id) {
-        NoteId noteId = NoteId.of(id);
-        if (!noteRepository.existsById(noteId)) {
+    @Timed(value = USE_CASE_TIMER, extraTags = {"operation", "delete"}, histogram = true)
+    @WithSpan
+    public void deleteNote(@SpanAttribute(NOTE_ID_ATTRIBUTE) UUID id) {
+        if (!noteRepository.deleteById(NoteId.of(id))) {
             throw new NoteNotFoundException(id);
         }
-        noteRepository.deleteById(noteId);
+    }
+
+    private static long contentBytes(List<Note> notes) {
+        long bytes = 0;
+        for (Note note : notes) {
+            bytes += NoteSummary.contentLengthOf(note.content());
+        }
+        return bytes;
     }
 }
@@ -0,0 +1,93 @@
+package com.example.notes.application.service;
+
+import com.example.notes.application.port.in.CreateNoteUseCase.CreateNoteCommand;
+import com.example.notes.application.port.in.ListNotesUseCase.ListNotesQuery;
+import com.example.notes.application.port.in.UpdateNoteUseCase.UpdateNoteCommand;
+import com.example.notes.application.port.in.reactive.ReactiveCreateNoteUseCase;
+import com.example.notes.application.port.in.reactive.ReactiveDeleteNoteUseCase;
+import com.example.notes.application.port.in.reactive.ReactiveGetNoteUseCase;
+import com.example.notes.application.port.in.reactive.ReactiveListNotesUseCase;
+import com.example.notes.application.port.in.reactive.ReactiveStreamNotesUseCase;
+import com.example.notes.application.port.in.reactive.ReactiveUpdateNoteUseCase;
+import com.example.notes.application.port.out.ReactiveNoteRepository;
+import com.example.notes.domain.exception.NoteNotFoundException;
+import com.example.notes.domain.exception.NoteVersionConflictException;
+import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.NoteCursor;
+import com.example.notes.domain.model.NoteId;
+import com.example.notes.domain.model.NotePage;
+import com.example.notes.domain.model.NoteVersion;
+import com.example.notes.domain.model.TagFilter;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.util.UUID;
+
+/**
+ * Same use cases as {@link NoteApplicationService}, composed without blocking so the REST layer
+ * can serve them on the event loop. Each repository call is a single auto-committed statement;
+ * concurrent updates are caught by the version predicate in {@link ReactiveNoteRepository#update}.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "notes.persistence.mode", stringValue = "reactive")
+public class ReactiveNoteApplicationService implements ReactiveCreateNoteUseCase, ReactiveDeleteNoteUseCase, ReactiveGetNoteUseCase, ReactiveListNotesUseCase, ReactiveStreamNotesUseCase, ReactiveUpdateNoteUseCase {
+
+    private final ReactiveNoteRepository noteRepository;
+
+    public ReactiveNoteApplicationService(ReactiveNoteRepository noteRepository) {
+        this.noteRepository = noteRepository;
+    }
+
+    @Override
+    public Uni<Note> createNote(CreateNoteCommand command) {
+        return Uni.createFrom().item(() -> Note.create(command.title(), command.content(), command.tags()))
+                .chain(noteRepository::insert);
+    }
+
+    @Override
+    public Uni<Note> getNote(UUID id) {
+        return noteRepository.findById(NoteId.of(id))
+                .onItem().ifNull().failWith(() -> new NoteNotFoundException(id));
+    }
+
+    @Override
+    public Uni<NoteVersion> getNoteVersion(UUID id) {
+        return noteRepository.findVersionById(NoteId.of(id))
+                .onItem().ifNull().failWith(() -> new NoteNotFoundException(id));
+    }
+
+    @Override
+    public Uni<NotePage> listNotes(ListNotesQuery query) {
+        return noteRepository.findPage(query.after(), query.tags(), query.limit() + 1)
+                .collect().asList()
+                .map(notes -> NotePage.fromLookahead(notes, query.limit()));
+    }
+
+    @Override
+    public Multi<Note> streamNotes(NoteCursor after, TagFilter tags) {
+        return noteRepository.streamAfter(after, tags);
+    }
+
+    @Override
+    public Uni<Note> updateNote(UUID id, UpdateNoteCommand command) {
+        return getNote(id).chain(existingNote -> {
+            if (command.expectedVersion() != null && command.expectedVersion() != existingNote.version()) {
+                return Uni.createFrom().failure(new NoteVersionConflictException(id));
+            }
+            return noteRepository.update(existingNote.update(command.title(), command.content(), command.tags()));
+        });
+    }
+
+    @Override
+    public Uni<Void> deleteNote(UUID id) {
+        return noteRepository.deleteById(NoteId.of(id))
+                .chain(deleted -> {
+                    if (!deleted) {
+                        return Uni.createFrom().failure(new NoteNotFoundException(id));
+                    }
+                    return Uni.createFrom().voidItem();
+                });
+    }
+}
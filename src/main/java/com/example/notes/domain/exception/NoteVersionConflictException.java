@@ -0,0 +1,10 @@
+package com.example.notes.domain.exception;
+
+import java.util.UUID;
+
+public class NoteVersionConflictException extends RuntimeException {
+
+    public NoteVersionConflictException(UUID id) {
+        super("Note was modified concurrently with id: " + id);
+    }
+}
@@ -16,14 +16,16 @@ public final class Note {
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
     private final List<String> tags;
+    private final long version;
 
-    private Note(NoteId id, String title, String content, LocalDateTime createdAt, LocalDateTime updatedAt, List<String> tags) {
+    private Note(NoteId id, String title, String content, LocalDateTime createdAt, LocalDateTime updatedAt, List<String> tags, long version) {
         this.id = id;
         this.title = title;
         this.content = content;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.tags = tags != null ? new ArrayList<>(tags) : new ArrayList<>();
+        this.version = version;
     }
 
     public static Note create(String title, String content, List<String> tags) {
@@ -37,12 +39,13 @@ public final class Note {
             content,
             now,
             now,
-            tags
+            tags,
+            0
         );
     }
 
-    public static Note reconstitute(NoteId id, String title, String content, LocalDateTime createdAt, LocalDateTime updatedAt, List<String> tags) {
-        return new Note(id, title, content, createdAt, updatedAt, tags);
+    public static Note reconstitute(NoteId id, String title, String content, LocalDateTime createdAt, LocalDateTime updatedAt, List<String> tags, long version) {
+        return new Note(id, title, content, createdAt, updatedAt, tags, version);
     }
 
     public Note update(String title, String content, List<String> tags) {
@@ -55,10 +58,19 @@ public final class Note {
             content,
             this.createdAt,
             LocalDateTime.now(),
-            tags
+            tags,
+            this.version
         );
     }
 
+    /**
+     * The same note, to be saved over the stored revision {@code version} instead of the one it
+     * was read at.
+     */
+    public Note atVersion(long version) {
+        return new Note(id, title, content, createdAt, updatedAt, tags, version);
+    }
+
     private static void validateTitle(String title) {
         if (title == null || title.isBlank()) {
             throw new NoteValidationException("Title is required");
@@ -95,6 +107,14 @@ public final class Note {
         return Collections.unmodifiableList(tags);
     }
 
+    /**
+     * The persisted revision this note was read at. {@link #update} keeps it, so saving the
+     * result only succeeds while the stored note is still at that revision.
+     */
+    public long version() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
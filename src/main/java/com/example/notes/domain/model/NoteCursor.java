@@ -0,0 +1,24 @@
+package com.example.notes.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+public record NoteCursor(LocalDateTime createdAt, NoteId id) {
+
+    public NoteCursor {
+        Objects.requireNonNull(createdAt, "Cursor createdAt cannot be null");
+        Objects.requireNonNull(id, "Cursor id cannot be null");
+    }
+
+    public static NoteCursor of(Note note) {
+        return new NoteCursor(note.createdAt(), note.id());
+    }
+
+    public static NoteCursor of(NoteSummary summary) {
+        return new NoteCursor(summary.createdAt(), summary.id());
+    }
+
+    public static NoteCursor of(PartialNote note) {
+        return new NoteCursor(note.createdAt(), note.id());
+    }
+}
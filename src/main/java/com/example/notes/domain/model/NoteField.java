@@ -0,0 +1,13 @@
+package com.example.notes.domain.model;
+
+/**
+ * The parts of a note a caller can ask for when it does not need all of them.
+ */
+public enum NoteField {
+    ID,
+    TITLE,
+    CONTENT,
+    CREATED_AT,
+    UPDATED_AT,
+    TAGS
+}
@@ -5,6 +5,8 @@ import java.util.UUID;
 
 public final class NoteId {
 
+    private static final UuidV7Generator GENERATOR = new UuidV7Generator();
+
     private final UUID value;
 
     private NoteId(UUID value) {
@@ -15,8 +17,12 @@ public final class NoteId {
         return new NoteId(value);
     }
 
+    /**
+     * Returns a new time-ordered UUIDv7 id, so freshly created notes append to the end of the
+     * primary-key index instead of landing on random pages.
+     */
     public static NoteId generate() {
-        return new NoteId(UUID.randomUUID());
+        return new NoteId(GENERATOR.next());
     }
 
     public UUID value() {
@@ -0,0 +1,27 @@
+package com.example.notes.domain.model;
+
+import java.util.List;
+import java.util.Optional;
+
+public record NotePage(List<Note> notes, NoteCursor nextCursor) {
+
+    public NotePage {
+        notes = List.copyOf(notes);
+    }
+
+    /**
+     * Builds a page from up to {@code limit + 1} notes; the extra note only signals that another
+     * page follows and is not part of this one.
+     */
+    public static NotePage fromLookahead(List<Note> notes, int limit) {
+        if (notes.size() <= limit) {
+            return new NotePage(notes, null);
+        }
+        List<Note> page = notes.subList(0, limit);
+        return new NotePage(page, NoteCursor.of(page.get(page.size() - 1)));
+    }
+
+    public Optional<NoteCursor> next() {
+        return Optional.ofNullable(nextCursor);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.notes.domain.model;
+
+import java.util.Objects;
+
+public record NoteSearchHit(Note note, float rank, String snippet) {
+
+    public NoteSearchHit {
+        Objects.requireNonNull(note, "Search hit note cannot be null");
+    }
+}
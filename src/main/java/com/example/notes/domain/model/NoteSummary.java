@@ -0,0 +1,52 @@
+package com.example.notes.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Read model for list screens: everything about a note except its body, plus a short
+ * plain-text snippet and the body size in UTF-8 bytes.
+ */
+public record NoteSummary(
+        NoteId id,
+        String title,
+        List<String> tags,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        long version,
+        String snippet,
+        Integer contentLength) {
+
+    public static final int SNIPPET_LENGTH = 200;
+
+    public NoteSummary {
+        Objects.requireNonNull(id, "Summary id cannot be null");
+        tags = tags != null ? List.copyOf(tags) : List.of();
+    }
+
+    /**
+     * Turns the first {@link #SNIPPET_LENGTH} characters of a body into a single line of text.
+     */
+    public static String snippetOf(String contentPrefix) {
+        if (contentPrefix == null) {
+            return null;
+        }
+        return contentPrefix.strip().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * The size of a body in UTF-8 bytes, counted without encoding it.
+     */
+    public static int contentLengthOf(String content) {
+        int length = content.length();
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (c >= 0x80) {
+                // Two bytes below U+0800, three above; a surrogate pair is four bytes for two chars.
+                length += c < 0x800 || Character.isSurrogate(c) ? 1 : 2;
+            }
+        }
+        return length;
+    }
+}
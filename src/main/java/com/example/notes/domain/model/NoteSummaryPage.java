@@ -0,0 +1,26 @@
+package com.example.notes.domain.model;
+
+import java.util.List;
+import java.util.Optional;
+
+public record NoteSummaryPage(List<NoteSummary> summaries, NoteCursor nextCursor) {
+
+    public NoteSummaryPage {
+        summaries = List.copyOf(summaries);
+    }
+
+    /**
+     * Builds a page from up to {@code limit + 1} summaries, like {@link NotePage#fromLookahead}.
+     */
+    public static NoteSummaryPage fromLookahead(List<NoteSummary> summaries, int limit) {
+        if (summaries.size() <= limit) {
+            return new NoteSummaryPage(summaries, null);
+        }
+        List<NoteSummary> page = summaries.subList(0, limit);
+        return new NoteSummaryPage(page, NoteCursor.of(page.get(page.size() - 1)));
+    }
+
+    public Optional<NoteCursor> next() {
+        return Optional.ofNullable(nextCursor);
+    }
+}
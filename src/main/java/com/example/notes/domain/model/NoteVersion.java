@@ -0,0 +1,15 @@
+package com.example.notes.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+public record NoteVersion(long version, LocalDateTime updatedAt) {
+
+    public NoteVersion {
+        Objects.requireNonNull(updatedAt, "Version updatedAt cannot be null");
+    }
+
+    public static NoteVersion of(Note note) {
+        return new NoteVersion(note.version(), note.updatedAt());
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.notes.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A note read with only the requested {@link #fields()}. Id, timestamps and version are always
+ * present because paging and HTTP validators depend on them; title, content and tags are null
+ * unless requested.
+ */
+public record PartialNote(
+        Set<NoteField> fields,
+        NoteId id,
+        String title,
+        String content,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        List<String> tags,
+        long version) {
+
+    public PartialNote {
+        Objects.requireNonNull(id, "Partial note id cannot be null");
+        fields = Set.copyOf(fields);
+        tags = tags != null ? List.copyOf(tags) : null;
+    }
+
+    public static PartialNote of(Note note, Set<NoteField> fields) {
+        return new PartialNote(
+                fields,
+                note.id(),
+                fields.contains(NoteField.TITLE) ? note.title() : null,
+                fields.contains(NoteField.CONTENT) ? note.content() : null,
+                note.createdAt(),
+                note.updatedAt(),
+                fields.contains(NoteField.TAGS) ? note.tags() : null,
+                note.version());
+    }
+
+    public boolean has(NoteField field) {
+        return fields.contains(field);
+    }
+}
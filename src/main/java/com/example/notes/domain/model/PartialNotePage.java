@@ -0,0 +1,26 @@
+package com.example.notes.domain.model;
+
+import java.util.List;
+import java.util.Optional;
+
+public record PartialNotePage(List<PartialNote> notes, NoteCursor nextCursor) {
+
+    public PartialNotePage {
+        notes = List.copyOf(notes);
+    }
+
+    /**
+     * Builds a page from up to {@code limit + 1} notes, like {@link NotePage#fromLookahead}.
+     */
+    public static PartialNotePage fromLookahead(List<PartialNote> notes, int limit) {
+        if (notes.size() <= limit) {
+            return new PartialNotePage(notes, null);
+        }
+        List<PartialNote> page = notes.subList(0, limit);
+        return new PartialNotePage(page, NoteCursor.of(page.get(page.size() - 1)));
+    }
+
+    public Optional<NoteCursor> next() {
+        return Optional.ofNullable(nextCursor);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.notes.domain.model;
+
+import com.example.notes.domain.exception.NoteValidationException;
+
+import java.util.Objects;
+import java.util.Set;
+
+public record TagFilter(Set<String> tags, Match match) {
+
+    public static final int MAX_TAGS = 20;
+
+    public enum Match {
+        ALL,
+        ANY
+    }
+
+    public TagFilter {
+        Objects.requireNonNull(match, "Tag match cannot be null");
+        if (tags == null) {
+            tags = Set.of();
+        }
+        if (tags.stream().anyMatch(tag -> tag == null || tag.isBlank())) {
+            throw new NoteValidationException("Tag filter values must not be blank");
+        }
+        tags = Set.copyOf(tags);
+        if (tags.size() > MAX_TAGS) {
+            throw new NoteValidationException("At most " + MAX_TAGS + " tags can be filtered on");
+        }
+    }
+
+    public static TagFilter none() {
+        return new TagFilter(Set.of(), Match.ALL);
+    }
+
+    public boolean isEmpty() {
+        return tags.isEmpty();
+    }
+}
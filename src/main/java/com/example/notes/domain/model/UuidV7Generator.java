@@ -0,0 +1,53 @@
+package com.example.notes.domain.model;
+
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * Time-ordered UUIDv7 (RFC 9562): 48 bits of Unix milliseconds, a 12-bit counter in
+ * {@code rand_a} and 62 random bits. Every id is strictly greater than the previous one from the
+ * same generator, even within one millisecond or when the wall clock steps backwards.
+ */
+final class UuidV7Generator {
+
+    private static final int MAX_SEQUENCE = 0xFFF;
+    // A fresh millisecond starts the counter in the lower half, leaving room for a burst of ids.
+    private static final int SEQUENCE_SEED_BOUND = 1 << 11;
+
+    private final LongSupplier clock;
+    private final Random random;
+    private long lastMillis = -1;
+    private int sequence;
+
+    UuidV7Generator() {
+        this(System::currentTimeMillis, new SecureRandom());
+    }
+
+    UuidV7Generator(LongSupplier clock, Random random) {
+        this.clock = clock;
+        this.random = random;
+    }
+
+    UUID next() {
+        long millis;
+        int seq;
+        synchronized (this) {
+            long now = clock.getAsLong();
+            if (now > lastMillis) {
+                lastMillis = now;
+                sequence = random.nextInt(SEQUENCE_SEED_BOUND);
+            } else if (++sequence > MAX_SEQUENCE) {
+                // Counter exhausted or clock moved back: borrow the next millisecond to stay monotonic.
+                lastMillis++;
+                sequence = 0;
+            }
+            millis = lastMillis;
+            seq = sequence;
+        }
+        long mostSigBits = (millis << 16) | 0x7000L | seq;
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
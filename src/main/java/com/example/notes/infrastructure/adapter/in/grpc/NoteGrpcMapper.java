@@ -0,0 +1,89 @@
+package com.example.notes.infrastructure.adapter.in.grpc;
+
+import com.example.notes.application.port.in.CreateNoteUseCase.CreateNoteCommand;
+import com.example.notes.application.port.in.CreateNotesUseCase;
+import com.example.notes.application.port.in.UpdateNoteUseCase.UpdateNoteCommand;
+import com.example.notes.domain.exception.NoteValidationException;
+import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.TagFilter;
+import com.example.notes.infrastructure.adapter.in.grpc.proto.NoteServiceProto.CreateNoteResult;
+import com.example.notes.infrastructure.adapter.in.grpc.proto.NoteServiceProto.ListNotesRequest;
+import com.example.notes.infrastructure.adapter.in.grpc.proto.NoteServiceProto.NoteUpdate;
+import com.example.notes.infrastructure.adapter.in.proto.NoteMessages;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.UUID;
+
+@ApplicationScoped
+public class NoteGrpcMapper {
+
+    public CreateNoteCommand toCommand(NoteMessages.CreateNoteRequest request) {
+        return new CreateNoteCommand(
+            request.getTitle(),
+            request.getContent(),
+            request.getTagsList()
+        );
+    }
+
+    public UpdateNoteCommand toCommand(NoteUpdate update) {
+        NoteMessages.UpdateNoteRequest note = update.getNote();
+        return new UpdateNoteCommand(
+            note.getTitle(),
+            note.getContent(),
+            note.getTagsList(),
+            update.hasExpectedVersion() ? update.getExpectedVersion() : null
+        );
+    }
+
+    public UUID toId(String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new NoteValidationException("Invalid note id: " + id);
+        }
+    }
+
+    public TagFilter toTagFilter(ListNotesRequest request) {
+        return new TagFilter(
+            Set.copyOf(request.getTagsList()),
+            request.getMatchAnyTag() ? TagFilter.Match.ANY : TagFilter.Match.ALL
+        );
+    }
+
+    public long toLimit(ListNotesRequest request) {
+        if (request.getLimit() < 0) {
+            throw new NoteValidationException("Limit must not be negative");
+        }
+        return request.getLimit() == 0 ? Long.MAX_VALUE : request.getLimit();
+    }
+
+    public NoteMessages.Note toMessage(Note note) {
+        return NoteMessages.Note.newBuilder()
+            .setId(note.id().value().toString())
+            .setTitle(note.title())
+            .setContent(note.content())
+            .setCreatedAt(toMicros(note.createdAt()))
+            .setUpdatedAt(toMicros(note.updatedAt()))
+            .addAllTags(note.tags())
+            .setVersion(note.version())
+            .build();
+    }
+
+    public CreateNoteResult toMessage(CreateNotesUseCase.CreateNoteResult result) {
+        CreateNoteResult.Builder message = CreateNoteResult.newBuilder();
+        if (result.isCreated()) {
+            message.setNote(toMessage(result.note()));
+        } else {
+            message.setError(result.error());
+        }
+        return message.build();
+    }
+
+    // Same encoding as the REST protobuf representation: the local date-time as epoch microseconds.
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.notes.infrastructure.adapter.in.grpc;
+
+import com.example.notes.application.port.in.CreateNoteUseCase;
+import com.example.notes.application.port.in.CreateNotesUseCase;
+import com.example.notes.application.port.in.DeleteNoteUseCase;
+import com.example.notes.application.port.in.GetNoteUseCase;
+import com.example.notes.application.port.in.ListNotesUseCase;
+import com.example.notes.application.port.in.ListNotesUseCase.ListNotesQuery;
+import com.example.notes.application.port.in.UpdateNoteUseCase;
+import com.example.notes.domain.model.NoteCursor;
+import com.example.notes.domain.model.NotePage;
+import com.example.notes.domain.model.TagFilter;
+import com.example.notes.infrastructure.adapter.in.grpc.proto.NoteService;
+import com.example.notes.infrastructure.adapter.in.grpc.proto.NoteServiceProto.CreateNoteResult;
+import com.example.notes.infrastructure.adapter.in.grpc.proto.NoteServiceProto.DeleteNoteRequest;
+import com.example.notes.infrastructure.adapter.in.grpc.proto.NoteServiceProto.GetNoteRequest;
+import com.example.notes.infrastructure.adapter.in.grpc.proto.NoteServiceProto.ListNotesRequest;
+import com.example.notes.infrastructure.adapter.in.grpc.proto.NoteServiceProto.NoteUpdate;
+import com.example.notes.infrastructure.adapter.in.proto.NoteMessages;
+import com.google.protobuf.Empty;
+import io.quarkus.grpc.GrpcService;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Second inbound adapter next to {@code NoteRestAdapter}, calling the same use cases. Unary calls
+ * block on a worker thread; the streaming calls move their database work onto the worker pool and
+ * only read as far as the client's flow control asks for. The blocking use cases exist in both
+ * persistence modes, so the adapter is built in the reactive mode as well.
+ */
+@GrpcService
+public class NoteGrpcService implements NoteService {
+
+    static final int CREATE_BATCH_SIZE = 100;
+    static final Duration CREATE_BATCH_WINDOW = Duration.ofMillis(20);
+
+    private final CreateNoteUseCase createNoteUseCase;
+    private final CreateNotesUseCase createNotesUseCase;
+    private final DeleteNoteUseCase deleteNoteUseCase;
+    private final GetNoteUseCase getNoteUseCase;
+    private final ListNotesUseCase listNotesUseCase;
+    private final UpdateNoteUseCase updateNoteUseCase;
+    private final NoteGrpcMapper mapper;
+    private final NoteGrpcStatusMapper statusMapper;
+
+    public NoteGrpcService(
+            CreateNoteUseCase createNoteUseCase,
+            CreateNotesUseCase createNotesUseCase,
+            DeleteNoteUseCase deleteNoteUseCase,
+            GetNoteUseCase getNoteUseCase,
+            ListNotesUseCase listNotesUseCase,
+            UpdateNoteUseCase updateNoteUseCase,
+            NoteGrpcMapper mapper,
+            NoteGrpcStatusMapper statusMapper) {
+        this.createNoteUseCase = createNoteUseCase;
+        this.createNotesUseCase = createNotesUseCase;
+        this.deleteNoteUseCase = deleteNoteUseCase;
+        this.getNoteUseCase = getNoteUseCase;
+        this.listNotesUseCase = listNotesUseCase;
+        this.updateNoteUseCase = updateNoteUseCase;
+        this.mapper = mapper;
+        this.statusMapper = statusMapper;
+    }
+
+    @Override
+    @Blocking
+    public Uni<NoteMessages.Note> getNote(GetNoteRequest request) {
+        return respond(() -> mapper.toMessage(getNoteUseCase.getNote(mapper.toId(request.getId()))));
+    }
+
+    @Override
+    public Multi<NoteMessages.Note> listNotes(ListNotesRequest request) {
+        return Multi.createFrom().deferred(() -> {
+                    long limit = mapper.toLimit(request);
+                    return pages(mapper.toTagFilter(request), limit)
+                            .onItem().transformToIterable(NotePage::notes)
+                            .select().first(limit);
+                })
+                .map(mapper::toMessage)
+                .onFailure().transform(statusMapper::toStatus)
+                .runSubscriptionOn(Infrastructure.getDefaultWorkerPool());
+    }
+
+    @Override
+    @Blocking
+    public Uni<NoteMessages.Note> createNote(NoteMessages.CreateNoteRequest request) {
+        return respond(() -> mapper.toMessage(createNoteUseCase.createNote(mapper.toCommand(request))));
+    }
+
+    @Override
+    @Blocking
+    public Uni<NoteMessages.Note> updateNote(NoteUpdate request) {
+        return respond(() -> mapper.toMessage(updateNoteUseCase.updateNote(mapper.toId(request.getId()), mapper.toCommand(request))));
+    }
+
+    @Override
+    @Blocking
+    public Uni<Empty> deleteNote(DeleteNoteRequest request) {
+        return respond(() -> {
+            deleteNoteUseCase.deleteNote(mapper.toId(request.getId()));
+            return Empty.getDefaultInstance();
+        });
+    }
+
+    // Requests are grouped so each transaction inserts a JDBC batch rather than a single row.
+    @Override
+    public Multi<CreateNoteResult> createNotes(Multi<NoteMessages.CreateNoteRequest> requests) {
+        return requests
+                .map(mapper::toCommand)
+                .group().intoLists().of(CREATE_BATCH_SIZE, CREATE_BATCH_WINDOW)
+                .select().where(commands -> !commands.isEmpty())
+                .emitOn(Infrastructure.getDefaultWorkerPool())
+                .map(createNotesUseCase::createNotes)
+                .onItem().transformToIterable(results -> results)
+                .map(mapper::toMessage)
+                .onFailure().transform(statusMapper::toStatus);
+    }
+
+    // One page per upstream request, so a slow client never has more than a page read ahead.
+    private Multi<NotePage> pages(TagFilter tags, long limit) {
+        int pageSize = (int) Math.min(limit, ListNotesQuery.MAX_LIMIT);
+        return Multi.createBy().repeating()
+                .supplier(AtomicReference<NoteCursor>::new, after -> {
+                    NotePage page = listNotesUseCase.listNotes(new ListNotesQuery(after.get(), tags, pageSize));
+                    after.set(page.nextCursor());
+                    return page;
+                })
+                .whilst(page -> page.nextCursor() != null);
+    }
+
+    private <T> Uni<T> respond(Supplier<T> call) {
+        try {
+            return Uni.createFrom().item(call.get());
+        } catch (RuntimeException e) {
+            return Uni.createFrom().failure(statusMapper.toStatus(e));
+        }
+    }
+}
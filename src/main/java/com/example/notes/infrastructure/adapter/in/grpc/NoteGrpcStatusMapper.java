@@ -0,0 +1,46 @@
+package com.example.notes.infrastructure.adapter.in.grpc;
+
+import com.example.notes.domain.exception.NoteNotFoundException;
+import com.example.notes.domain.exception.NoteValidationException;
+import com.example.notes.domain.exception.NoteVersionConflictException;
+import com.example.notes.infrastructure.adapter.in.rest.NoteNotFoundExceptionMapper;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * gRPC counterpart of the REST exception mappers: turns domain failures into status codes and
+ * counts them under the same {@code notes.failures} meters.
+ */
+@ApplicationScoped
+public class NoteGrpcStatusMapper {
+
+    private final Counter notFound;
+    private final Counter validation;
+    private final Counter versionConflict;
+
+    public NoteGrpcStatusMapper(MeterRegistry meterRegistry) {
+        this.notFound = Counter.builder(NoteNotFoundExceptionMapper.FAILURE_COUNTER).tag("type", "not_found").register(meterRegistry);
+        this.validation = Counter.builder(NoteNotFoundExceptionMapper.FAILURE_COUNTER).tag("type", "validation").register(meterRegistry);
+        this.versionConflict = Counter.builder(NoteNotFoundExceptionMapper.FAILURE_COUNTER).tag("type", "version_conflict").register(meterRegistry);
+    }
+
+    public Throwable toStatus(Throwable failure) {
+        return switch (failure) {
+            case NoteNotFoundException e -> {
+                notFound.increment();
+                yield Status.NOT_FOUND.withDescription(e.getMessage()).asRuntimeException();
+            }
+            case NoteValidationException e -> {
+                validation.increment();
+                yield Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException();
+            }
+            case NoteVersionConflictException e -> {
+                versionConflict.increment();
+                yield Status.FAILED_PRECONDITION.withDescription(e.getMessage()).asRuntimeException();
+            }
+            default -> failure;
+        };
+    }
+}
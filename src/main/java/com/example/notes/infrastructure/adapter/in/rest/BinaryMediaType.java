@@ -0,0 +1,22 @@
+package com.example.notes.infrastructure.adapter.in.rest;
+
+import jakarta.ws.rs.core.MediaType;
+
+/**
+ * Media types the notes API offers next to JSON. Clients pick one with {@code Accept} for
+ * responses and {@code Content-Type} for request bodies.
+ */
+public final class BinaryMediaType {
+
+    public static final String APPLICATION_CBOR = "application/cbor";
+    public static final MediaType APPLICATION_CBOR_TYPE = MediaType.valueOf(APPLICATION_CBOR);
+
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE_TYPE = MediaType.valueOf(APPLICATION_SMILE);
+
+    public static final String APPLICATION_PROTOBUF = "application/x-protobuf";
+    public static final MediaType APPLICATION_PROTOBUF_TYPE = MediaType.valueOf(APPLICATION_PROTOBUF);
+
+    private BinaryMediaType() {
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.notes.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.ext.Provider;
+
+@Provider
+@Produces(BinaryMediaType.APPLICATION_CBOR)
+@Consumes(BinaryMediaType.APPLICATION_CBOR)
+public class CborMessageBodyHandler extends JacksonBinaryMessageBodyHandler {
+
+    public CborMessageBodyHandler(ObjectMapper objectMapper) {
+        super(objectMapper, new CBORFactory());
+    }
+}
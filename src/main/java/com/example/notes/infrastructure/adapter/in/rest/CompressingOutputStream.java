@@ -0,0 +1,155 @@
+package com.example.notes.infrastructure.adapter.in.rest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Holds back the first {@code minSize} bytes of a body. A body that ends below that is written
+ * as-is; otherwise {@code onCompress} runs (while the headers can still change) and everything
+ * from then on is compressed as it is written, so nothing beyond the threshold is buffered.
+ * {@link #finish()} completes the body without closing the underlying stream; {@link #release()}
+ * must follow in any case.
+ */
+final class CompressingOutputStream extends OutputStream {
+
+    private final OutputStream target;
+    private final ContentEncoding encoding;
+    private final int minSize;
+    private final int level;
+    private final Runnable onCompress;
+
+    private ByteArrayOutputStream pending;
+    private Deflater deflater;
+    private DeflaterOutputStream compressor;
+    private CountingOutputStream compressed;
+    private long uncompressedBytes;
+    private long compressionNanos;
+
+    CompressingOutputStream(OutputStream target, ContentEncoding encoding, int minSize, int level, Runnable onCompress) {
+        this.target = target;
+        this.encoding = encoding;
+        this.minSize = minSize;
+        this.level = level;
+        this.onCompress = onCompress;
+        this.pending = new ByteArrayOutputStream(Math.min(minSize, 8192));
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        if (compressor == null) {
+            if (pending.size() + length < minSize) {
+                pending.write(bytes, offset, length);
+                return;
+            }
+            startCompressing();
+        }
+        compress(bytes, offset, length);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (compressor != null) {
+            compressor.flush();
+        }
+    }
+
+    void finish() throws IOException {
+        if (compressor == null) {
+            pending.writeTo(target);
+            pending = null;
+            return;
+        }
+        long start = System.nanoTime();
+        compressor.finish();
+        compressionNanos += System.nanoTime() - start;
+    }
+
+    // Deflaters hold native memory until ended, whether or not the body completed.
+    void release() {
+        if (deflater != null) {
+            deflater.end();
+        }
+    }
+
+    boolean compressed() {
+        return compressor != null;
+    }
+
+    long uncompressedBytes() {
+        return uncompressedBytes;
+    }
+
+    long compressedBytes() {
+        return compressed != null ? compressed.count : 0;
+    }
+
+    long compressionNanos() {
+        return compressionNanos;
+    }
+
+    private void startCompressing() throws IOException {
+        onCompress.run();
+        compressed = new CountingOutputStream(target);
+        deflater = new Deflater(level, encoding == ContentEncoding.GZIP);
+        compressor = encoding == ContentEncoding.GZIP
+                ? new LeveledGzipOutputStream(compressed, deflater)
+                : new DeflaterOutputStream(compressed, deflater, 8192);
+        byte[] buffered = pending.toByteArray();
+        pending = null;
+        compress(buffered, 0, buffered.length);
+    }
+
+    private void compress(byte[] bytes, int offset, int length) throws IOException {
+        long start = System.nanoTime();
+        compressor.write(bytes, offset, length);
+        compressionNanos += System.nanoTime() - start;
+        uncompressedBytes += length;
+    }
+
+    // GZIPOutputStream always creates its own Deflater; swap in ours so the level applies and we control end().
+    private static final class LeveledGzipOutputStream extends GZIPOutputStream {
+
+        LeveledGzipOutputStream(OutputStream output, Deflater deflater) throws IOException {
+            super(output, 8192);
+            this.def.end();
+            this.def = deflater;
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream output) {
+            super(output);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+            count += length;
+        }
+
+        // The response stream is closed by the framework, not by this body.
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
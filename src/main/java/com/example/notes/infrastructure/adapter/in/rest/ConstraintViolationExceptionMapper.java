@@ -0,0 +1,37 @@
+package com.example.notes.infrastructure.adapter.in.rest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.quarkus.hibernate.validator.runtime.jaxrs.ResteasyReactiveViolationExceptionMapper;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Counts Bean Validation rejections of request bodies and parameters in the same
+ * {@code notes.failures{type=validation}} meter as {@link NoteValidationExceptionMapper}, and leaves
+ * the response to the built-in violation report. Violations of return values are server errors
+ * there and are not counted.
+ */
+@Provider
+public class ConstraintViolationExceptionMapper implements ExceptionMapper<ConstraintViolationException> {
+
+    private final ResteasyReactiveViolationExceptionMapper delegate = new ResteasyReactiveViolationExceptionMapper();
+    private final Counter failures;
+
+    public ConstraintViolationExceptionMapper(MeterRegistry meterRegistry) {
+        this.failures = Counter.builder(NoteNotFoundExceptionMapper.FAILURE_COUNTER)
+                .tag("type", "validation")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Response toResponse(ConstraintViolationException exception) {
+        Response response = delegate.toResponse(exception);
+        if (response.getStatus() == Response.Status.BAD_REQUEST.getStatusCode()) {
+            failures.increment();
+        }
+        return response;
+    }
+}
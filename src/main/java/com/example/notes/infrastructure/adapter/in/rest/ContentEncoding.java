@@ -0,0 +1,99 @@
+package com.example.notes.infrastructure.adapter.in.rest;
+
+import jakarta.ws.rs.core.EntityTag;
+
+import java.util.Locale;
+
+/**
+ * Response content codings this service can produce, in order of preference on equal quality.
+ */
+enum ContentEncoding {
+    GZIP("gzip"),
+    DEFLATE("deflate");
+
+    private final String token;
+
+    ContentEncoding(String token) {
+        this.token = token;
+    }
+
+    String token() {
+        return token;
+    }
+
+    /**
+     * The tag of the body in this coding. A strong validator must differ between content codings,
+     * so the coding is appended to the tag of the identity body.
+     */
+    EntityTag entityTag(EntityTag identity) {
+        return new EntityTag(identity.getValue() + "-" + token, identity.isWeak());
+    }
+
+    /**
+     * The tag to evaluate {@code If-None-Match} against: the tag of the body in the coding this
+     * request negotiates when the header carries it, since a client holding the compressed body
+     * sends that one back, and the identity tag otherwise.
+     */
+    static EntityTag current(EntityTag identity, String acceptEncoding, String ifNoneMatch) {
+        ContentEncoding encoding = negotiate(acceptEncoding);
+        if (encoding != null && ifNoneMatch != null) {
+            EntityTag coded = encoding.entityTag(identity);
+            if (ifNoneMatch.contains("\"" + coded.getValue() + "\"")) {
+                return coded;
+            }
+        }
+        return identity;
+    }
+
+    /**
+     * Picks the coding with the highest quality value in an {@code Accept-Encoding} header, or
+     * null when none is acceptable. {@code *} covers codings the header does not name.
+     */
+    static ContentEncoding negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return null;
+        }
+        double[] quality = new double[values().length];
+        boolean[] named = new boolean[values().length];
+        double wildcard = 0;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double q = qualityOf(parts);
+            if (coding.equals("*")) {
+                wildcard = q;
+                continue;
+            }
+            for (ContentEncoding encoding : values()) {
+                if (encoding.token.equals(coding) || (encoding == GZIP && coding.equals("x-gzip"))) {
+                    quality[encoding.ordinal()] = Math.max(quality[encoding.ordinal()], q);
+                    named[encoding.ordinal()] = true;
+                }
+            }
+        }
+        ContentEncoding best = null;
+        double bestQuality = 0;
+        for (ContentEncoding encoding : values()) {
+            double q = named[encoding.ordinal()] ? quality[encoding.ordinal()] : wildcard;
+            if (q > bestQuality) {
+                best = encoding;
+                bestQuality = q;
+            }
+        }
+        return best;
+    }
+
+    private static double qualityOf(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.notes.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.UUID;
+
+/**
+ * Reads and writes any entity in a binary Jackson format, using a copy of the application's
+ * JSON ObjectMapper so modules, date handling and custom serializers behave exactly as for JSON.
+ */
+abstract class JacksonBinaryMessageBodyHandler implements MessageBodyReader<Object>, MessageBodyWriter<Object> {
+
+    private final ObjectMapper objectMapper;
+
+    JacksonBinaryMessageBodyHandler(ObjectMapper objectMapper, JsonFactory factory) {
+        this.objectMapper = objectMapper.copyWith(factory
+                .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET));
+        // Binary formats would otherwise write UUIDs as 16 raw bytes; ids stay the same string as in JSON.
+        this.objectMapper.configOverride(UUID.class).setFormat(JsonFormat.Value.forShape(JsonFormat.Shape.STRING));
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return true;
+    }
+
+    @Override
+    public Object readFrom(
+            Class<Object> type,
+            Type genericType,
+            Annotation[] annotations,
+            MediaType mediaType,
+            MultivaluedMap<String, String> httpHeaders,
+            InputStream entityStream) throws IOException {
+        try {
+            return objectMapper.readerFor(objectMapper.constructType(genericType)).readValue(entityStream);
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("Malformed " + mediaType + " body", e);
+        }
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return true;
+    }
+
+    @Override
+    public void writeTo(
+            Object entity,
+            Class<?> type,
+            Type genericType,
+            Annotation[] annotations,
+            MediaType mediaType,
+            MultivaluedMap<String, Object> httpHeaders,
+            OutputStream entityStream) throws IOException {
+        objectMapper.writeValue(entityStream, entity);
+    }
+}
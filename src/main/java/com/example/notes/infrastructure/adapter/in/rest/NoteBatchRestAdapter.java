@@ -0,0 +1,48 @@
+package com.example.notes.infrastructure.adapter.in.rest;
+
+import com.example.notes.application.port.in.CreateNoteUseCase.CreateNoteCommand;
+import com.example.notes.application.port.in.CreateNotesUseCase;
+import com.example.notes.infrastructure.adapter.in.rest.dto.CreateNotesRequest;
+import com.example.notes.infrastructure.adapter.in.rest.mapper.NoteRestMapper;
+import io.quarkus.arc.properties.UnlessBuildProperty;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import java.util.List;
+
+/**
+ * Custom-method style endpoint ({@code /v1/notes:batch}). It needs its own root path because a
+ * sub-resource of {@link NoteRestAdapter} would always be separated by a slash. Like that adapter
+ * it blocks on JPA, so it is left out of reactive builds.
+ */
+@Path("/v1/notes:batch")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@CompressibleResponse
+@RunOnVirtualThread
+@UnlessBuildProperty(name = "notes.persistence.mode", stringValue = "reactive", enableIfMissing = true)
+public class NoteBatchRestAdapter {
+
+    private final CreateNotesUseCase createNotesUseCase;
+    private final NoteRestMapper mapper;
+
+    public NoteBatchRestAdapter(CreateNotesUseCase createNotesUseCase, NoteRestMapper mapper) {
+        this.createNotesUseCase = createNotesUseCase;
+        this.mapper = mapper;
+    }
+
+    @POST
+    public Response createNotes(@Valid @NotNull CreateNotesRequest request) {
+        List<CreateNoteCommand> commands = request.notes().stream()
+                .map(mapper::toCommand)
+                .toList();
+        return Response.ok(mapper.toResponse(createNotesUseCase.createNotes(commands))).build();
+    }
+}
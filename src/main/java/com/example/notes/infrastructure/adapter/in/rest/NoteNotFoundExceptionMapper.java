@@ -1,6 +1,8 @@
 package com.example.notes.infrastructure.adapter.in.rest;
 
 import com.example.notes.domain.exception.NoteNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.ext.ExceptionMapper;
 import jakarta.ws.rs.ext.Provider;
@@ -8,8 +10,19 @@ import jakarta.ws.rs.ext.Provider;
 @Provider
 public class NoteNotFoundExceptionMapper implements ExceptionMapper<NoteNotFoundException> {
 
+    public static final String FAILURE_COUNTER = "notes.failures";
+
+    private final Counter failures;
+
+    public NoteNotFoundExceptionMapper(MeterRegistry meterRegistry) {
+        this.failures = Counter.builder(FAILURE_COUNTER)
+                .tag("type", "not_found")
+                .register(meterRegistry);
+    }
+
     @Override
     public Response toResponse(NoteNotFoundException exception) {
+        failures.increment();
         return Response.status(Response.Status.NOT_FOUND)
                 .entity(new ErrorResponse(exception.getMessage()))
                 .build();
@@ -4,73 +4,223 @@ import com.example.notes.application.port.in.CreateNoteUseCase;
 import com.example.notes.application.port.in.DeleteNoteUseCase;
 import com.example.notes.application.port.in.GetNoteUseCase;
 import com.example.notes.application.port.in.ListNotesUseCase;
+import com.example.notes.application.port.in.ListNotesUseCase.ListNotesQuery;
+import com.example.notes.application.port.in.SearchNotesUseCase;
+import com.example.notes.application.port.in.SearchNotesUseCase.SearchNotesQuery;
+import com.example.notes.application.port.in.StreamNotesUseCase;
 import com.example.notes.application.port.in.UpdateNoteUseCase;
 import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.NoteCursor;
+import com.example.notes.domain.model.NoteField;
+import com.example.notes.domain.model.NotePage;
+import com.example.notes.domain.model.NoteSummaryPage;
+import com.example.notes.domain.model.NoteVersion;
+import com.example.notes.domain.model.PartialNote;
+import com.example.notes.domain.model.PartialNotePage;
+import com.example.notes.domain.model.TagFilter;
 import com.example.notes.infrastructure.adapter.in.rest.dto.CreateNoteRequest;
 import com.example.notes.infrastructure.adapter.in.rest.dto.NoteResponse;
+import com.example.notes.infrastructure.adapter.in.rest.dto.NoteSearchHitResponse;
+import com.example.notes.infrastructure.adapter.in.rest.dto.NoteSummaryResponse;
+import com.example.notes.infrastructure.adapter.in.rest.dto.PartialNoteResponse;
 import com.example.notes.infrastructure.adapter.in.rest.dto.UpdateNoteRequest;
 import com.example.notes.infrastructure.adapter.in.rest.mapper.NoteRestMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.arc.properties.UnlessBuildProperty;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.NotAcceptableException;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.PUT;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.core.UriInfo;
+import org.jboss.resteasy.reactive.common.util.RestMediaType;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Date;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Path("/v1/notes")
-@Produces(MediaType.APPLICATION_JSON)
-@Consumes(MediaType.APPLICATION_JSON)
+@Produces({
+        MediaType.APPLICATION_JSON,
+        BinaryMediaType.APPLICATION_CBOR,
+        BinaryMediaType.APPLICATION_SMILE,
+        BinaryMediaType.APPLICATION_PROTOBUF})
+@Consumes({
+        MediaType.APPLICATION_JSON,
+        BinaryMediaType.APPLICATION_CBOR,
+        BinaryMediaType.APPLICATION_SMILE,
+        BinaryMediaType.APPLICATION_PROTOBUF})
+@CompressibleResponse
+@RunOnVirtualThread
+@UnlessBuildProperty(name = "notes.persistence.mode", stringValue = "reactive", enableIfMissing = true)
 public class NoteRestAdapter {
 
+    private static final List<MediaType> RESPONSE_MEDIA_TYPES = List.of(
+            MediaType.APPLICATION_JSON_TYPE,
+            BinaryMediaType.APPLICATION_CBOR_TYPE,
+            BinaryMediaType.APPLICATION_SMILE_TYPE,
+            BinaryMediaType.APPLICATION_PROTOBUF_TYPE);
+
     private final CreateNoteUseCase createNoteUseCase;
     private final DeleteNoteUseCase deleteNoteUseCase;
     private final GetNoteUseCase getNoteUseCase;
     private final ListNotesUseCase listNotesUseCase;
+    private final SearchNotesUseCase searchNotesUseCase;
+    private final StreamNotesUseCase streamNotesUseCase;
     private final UpdateNoteUseCase updateNoteUseCase;
     private final NoteRestMapper mapper;
+    private final ObjectMapper objectMapper;
 
     public NoteRestAdapter(
             CreateNoteUseCase createNoteUseCase,
             DeleteNoteUseCase deleteNoteUseCase,
             GetNoteUseCase getNoteUseCase,
             ListNotesUseCase listNotesUseCase,
+            SearchNotesUseCase searchNotesUseCase,
+            StreamNotesUseCase streamNotesUseCase,
             UpdateNoteUseCase updateNoteUseCase,
-            NoteRestMapper mapper) {
+            NoteRestMapper mapper,
+            ObjectMapper objectMapper) {
         this.createNoteUseCase = createNoteUseCase;
         this.deleteNoteUseCase = deleteNoteUseCase;
         this.getNoteUseCase = getNoteUseCase;
         this.listNotesUseCase = listNotesUseCase;
+        this.searchNotesUseCase = searchNotesUseCase;
+        this.streamNotesUseCase = streamNotesUseCase;
         this.updateNoteUseCase = updateNoteUseCase;
         this.mapper = mapper;
+        this.objectMapper = objectMapper;
     }
 
     @POST
-    public Response createNote(@Valid CreateNoteRequest request) {
+    public Response createNote(@Valid CreateNoteRequest request, @Context HttpHeaders headers) {
         Note note = createNoteUseCase.createNote(mapper.toCommand(request));
         NoteResponse response = mapper.toResponse(note);
-        return Response.status(Response.Status.CREATED).entity(response).build();
+        return withValidators(Response.status(Response.Status.CREATED).entity(response), note, responseMediaType(headers, true)).build();
     }
 
     @GET
     @Path("/{id}")
-    public Response getNoteById(@PathParam("id") UUID id) {
+    public Response getNoteById(
+            @PathParam("id") UUID id,
+            @QueryParam("fields") String fields,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+            @HeaderParam(HttpHeaders.IF_MODIFIED_SINCE) String ifModifiedSince,
+            @Context HttpHeaders headers,
+            @Context Request request) {
+        MediaType mediaType = responseMediaType(headers, true);
+        // Conditional requests are answered from a version lookup that never reads the content column.
+        if (ifNoneMatch != null || ifModifiedSince != null) {
+            NoteVersion version = getNoteUseCase.getNoteVersion(id);
+            EntityTag entityTag = ContentEncoding.current(
+                    mapper.toEntityTag(id, version.version(), mediaType),
+                    headers.getHeaderString(HttpHeaders.ACCEPT_ENCODING), ifNoneMatch);
+            Date lastModified = mapper.toLastModified(version.updatedAt());
+            Response.ResponseBuilder notModified = request.evaluatePreconditions(lastModified, entityTag);
+            if (notModified != null) {
+                return notModified.tag(entityTag).lastModified(lastModified).build();
+            }
+        }
+
+        Set<NoteField> requested = mapper.toFields(fields);
+        if (requested != null) {
+            PartialNote note = getNoteUseCase.getPartialNote(id, requested);
+            return withValidators(Response.ok(new PartialNoteResponse(note)), id, note.version(), note.updatedAt(), mediaType).build();
+        }
+
         Note note = getNoteUseCase.getNote(id);
         NoteResponse response = mapper.toResponse(note);
-        return Response.ok(response).build();
+        return withValidators(Response.ok(response), note, mediaType).build();
+    }
+
+    @GET
+    @Produces({
+            MediaType.APPLICATION_JSON,
+            RestMediaType.APPLICATION_NDJSON,
+            BinaryMediaType.APPLICATION_CBOR,
+            BinaryMediaType.APPLICATION_SMILE,
+            BinaryMediaType.APPLICATION_PROTOBUF})
+    public Response listNotes(
+            @QueryParam("cursor") String cursor,
+            @QueryParam("limit") @DefaultValue("50") @Min(1) @Max(ListNotesQuery.MAX_LIMIT) int limit,
+            @QueryParam("tag") List<String> tag,
+            @QueryParam("tagMatch") @DefaultValue("all") @Pattern(regexp = "all|any", message = "tagMatch must be 'all' or 'any'") String tagMatch,
+            @QueryParam("view") @DefaultValue("full") @Pattern(regexp = "full|summary", message = "view must be 'full' or 'summary'") String view,
+            @QueryParam("fields") String fields,
+            @Context HttpHeaders headers,
+            @Context UriInfo uriInfo) {
+        NoteCursor after = mapper.fromCursorToken(cursor);
+        TagFilter tags = mapper.toTagFilter(tag, tagMatch);
+        if (prefersNdjson(headers)) {
+            // The stream always carries full notes; refuse a projection rather than silently drop it.
+            if (fields != null || view.equals("summary")) {
+                throw new BadRequestException("fields and view=summary are not supported for NDJSON streams");
+            }
+            StreamingOutput body = output -> streamNotesUseCase.streamNotes(after, tags, note -> writeLine(output, note));
+            return Response.ok(body, RestMediaType.APPLICATION_NDJSON_TYPE).build();
+        }
+
+        ListNotesQuery query = new ListNotesQuery(after, tags, limit);
+        Set<NoteField> requested = mapper.toFields(fields);
+        if (requested != null) {
+            if (view.equals("summary")) {
+                throw new BadRequestException("fields cannot be combined with view=summary");
+            }
+            PartialNotePage page = listNotesUseCase.listPartialNotes(query, requested);
+            List<PartialNoteResponse> response = page.notes().stream()
+                    .map(PartialNoteResponse::new)
+                    .toList();
+            return withNextLink(Response.ok(response, responseMediaType(headers, true)), page.nextCursor(), uriInfo).build();
+        }
+        if (view.equals("summary")) {
+            NoteSummaryPage page = listNotesUseCase.listNoteSummaries(query);
+            List<NoteSummaryResponse> response = page.summaries().stream()
+                    .map(mapper::toResponse)
+                    .toList();
+            return withNextLink(Response.ok(response, responseMediaType(headers, false)), page.nextCursor(), uriInfo).build();
+        }
+
+        NotePage page = listNotesUseCase.listNotes(query);
+        List<NoteResponse> response = page.notes().stream()
+                .map(mapper::toResponse)
+                .toList();
+        return withNextLink(Response.ok(response, responseMediaType(headers, true)), page.nextCursor(), uriInfo).build();
     }
 
     @GET
-    public Response listNotes() {
-        List<Note> notes = listNotesUseCase.listNotes();
-        List<NoteResponse> response = notes.stream()
+    @Path("/search")
+    @Produces({MediaType.APPLICATION_JSON, BinaryMediaType.APPLICATION_CBOR, BinaryMediaType.APPLICATION_SMILE})
+    public Response searchNotes(
+            @QueryParam("q") @NotBlank(message = "Search text is required") String text,
+            @QueryParam("limit") @DefaultValue("20") @Min(1) @Max(SearchNotesQuery.MAX_LIMIT) int limit) {
+        List<NoteSearchHitResponse> response = searchNotesUseCase.searchNotes(new SearchNotesQuery(text, limit))
+                .stream()
                 .map(mapper::toResponse)
                 .toList();
         return Response.ok(response).build();
@@ -78,10 +228,14 @@ public class NoteRestAdapter {
 
     @PUT
     @Path("/{id}")
-    public Response updateNote(@PathParam("id") UUID id, @Valid UpdateNoteRequest request) {
-        Note note = updateNoteUseCase.updateNote(id, mapper.toCommand(request));
+    public Response updateNote(
+            @PathParam("id") UUID id,
+            @HeaderParam(HttpHeaders.IF_MATCH) String ifMatch,
+            @Valid UpdateNoteRequest request,
+            @Context HttpHeaders headers) {
+        Note note = updateNoteUseCase.updateNote(id, mapper.toCommand(request, mapper.toExpectedVersion(id, ifMatch)));
         NoteResponse response = mapper.toResponse(note);
-        return Response.ok(response).build();
+        return withValidators(Response.ok(response), note, responseMediaType(headers, true)).build();
     }
 
     @DELETE
@@ -90,4 +244,64 @@ public class NoteRestAdapter {
         deleteNoteUseCase.deleteNote(id);
         return Response.noContent().build();
     }
+
+    private Response.ResponseBuilder withValidators(Response.ResponseBuilder builder, Note note, MediaType mediaType) {
+        return withValidators(builder, note.id().value(), note.version(), note.updatedAt(), mediaType);
+    }
+
+    // The representation is fixed here rather than negotiated later, so the entity tag names the
+    // bytes actually sent; caches still key on Accept to pick between representations.
+    private Response.ResponseBuilder withValidators(
+            Response.ResponseBuilder builder, UUID id, long version, LocalDateTime updatedAt, MediaType mediaType) {
+        return builder
+                .type(mediaType)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .tag(mapper.toEntityTag(id, version, mediaType))
+                .lastModified(mapper.toLastModified(updatedAt));
+    }
+
+    private Response.ResponseBuilder withNextLink(Response.ResponseBuilder builder, NoteCursor next, UriInfo uriInfo) {
+        if (next != null) {
+            builder.link(
+                    uriInfo.getRequestUriBuilder()
+                            .replaceQueryParam("cursor", mapper.toCursorToken(next))
+                            .build(),
+                    "next");
+        }
+        return builder;
+    }
+
+    // Only an explicit NDJSON Accept switches to streaming; wildcards keep the paged JSON array.
+    private static boolean prefersNdjson(HttpHeaders headers) {
+        for (MediaType accepted : headers.getAcceptableMediaTypes()) {
+            if (accepted.isCompatible(MediaType.APPLICATION_JSON_TYPE)) {
+                return false;
+            }
+            if (accepted.isCompatible(RestMediaType.APPLICATION_NDJSON_TYPE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The first acceptable representation; the protobuf schema only has messages for notes.
+    private static MediaType responseMediaType(HttpHeaders headers, boolean protobuf) {
+        for (MediaType accepted : headers.getAcceptableMediaTypes()) {
+            for (MediaType candidate : RESPONSE_MEDIA_TYPES) {
+                if (accepted.isCompatible(candidate) && (protobuf || candidate != BinaryMediaType.APPLICATION_PROTOBUF_TYPE)) {
+                    return candidate;
+                }
+            }
+        }
+        throw new NotAcceptableException();
+    }
+
+    private void writeLine(OutputStream output, Note note) {
+        try {
+            output.write(objectMapper.writeValueAsBytes(mapper.toResponse(note)));
+            output.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
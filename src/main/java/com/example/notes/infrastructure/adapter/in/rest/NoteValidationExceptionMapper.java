@@ -0,0 +1,29 @@
+package com.example.notes.infrastructure.adapter.in.rest;
+
+import com.example.notes.domain.exception.NoteValidationException;
+import com.example.notes.infrastructure.adapter.in.rest.NoteNotFoundExceptionMapper.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+
+@Provider
+public class NoteValidationExceptionMapper implements ExceptionMapper<NoteValidationException> {
+
+    private final Counter failures;
+
+    public NoteValidationExceptionMapper(MeterRegistry meterRegistry) {
+        this.failures = Counter.builder(NoteNotFoundExceptionMapper.FAILURE_COUNTER)
+                .tag("type", "validation")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Response toResponse(NoteValidationException exception) {
+        failures.increment();
+        return Response.status(Response.Status.BAD_REQUEST)
+                .entity(new ErrorResponse(exception.getMessage()))
+                .build();
+    }
+}
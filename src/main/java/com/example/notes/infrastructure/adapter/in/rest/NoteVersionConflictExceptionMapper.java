@@ -0,0 +1,29 @@
+package com.example.notes.infrastructure.adapter.in.rest;
+
+import com.example.notes.domain.exception.NoteVersionConflictException;
+import com.example.notes.infrastructure.adapter.in.rest.NoteNotFoundExceptionMapper.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+
+@Provider
+public class NoteVersionConflictExceptionMapper implements ExceptionMapper<NoteVersionConflictException> {
+
+    private final Counter failures;
+
+    public NoteVersionConflictExceptionMapper(MeterRegistry meterRegistry) {
+        this.failures = Counter.builder(NoteNotFoundExceptionMapper.FAILURE_COUNTER)
+                .tag("type", "version_conflict")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Response toResponse(NoteVersionConflictException exception) {
+        failures.increment();
+        return Response.status(Response.Status.PRECONDITION_FAILED)
+                .entity(new ErrorResponse(exception.getMessage()))
+                .build();
+    }
+}
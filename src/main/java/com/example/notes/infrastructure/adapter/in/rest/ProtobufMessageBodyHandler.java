@@ -0,0 +1,91 @@
+package com.example.notes.infrastructure.adapter.in.rest;
+
+import com.example.notes.infrastructure.adapter.in.proto.NoteMessages;
+import com.example.notes.infrastructure.adapter.in.rest.NoteNotFoundExceptionMapper.ErrorResponse;
+import com.example.notes.infrastructure.adapter.in.rest.dto.CreateNoteRequest;
+import com.example.notes.infrastructure.adapter.in.rest.dto.NoteResponse;
+import com.example.notes.infrastructure.adapter.in.rest.dto.PartialNoteResponse;
+import com.example.notes.infrastructure.adapter.in.rest.dto.UpdateNoteRequest;
+import com.example.notes.infrastructure.adapter.in.rest.mapper.NoteProtobufMapper;
+import com.google.protobuf.InvalidProtocolBufferException;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Protobuf representation of notes, note lists, errors and the create/update requests, through
+ * the messages generated from {@code note_messages.proto}. Only the types with a message there
+ * are readable or writable; a list is assumed to hold notes, which the resource guarantees before
+ * choosing this media type.
+ */
+@Provider
+@Produces(BinaryMediaType.APPLICATION_PROTOBUF)
+@Consumes(BinaryMediaType.APPLICATION_PROTOBUF)
+public class ProtobufMessageBodyHandler implements MessageBodyReader<Object>, MessageBodyWriter<Object> {
+
+    private final NoteProtobufMapper mapper;
+
+    public ProtobufMessageBodyHandler(NoteProtobufMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return type == CreateNoteRequest.class || type == UpdateNoteRequest.class;
+    }
+
+    @Override
+    public Object readFrom(
+            Class<Object> type,
+            Type genericType,
+            Annotation[] annotations,
+            MediaType mediaType,
+            MultivaluedMap<String, String> httpHeaders,
+            InputStream entityStream) throws IOException {
+        try {
+            return CreateNoteRequest.class.equals(type)
+                    ? mapper.toCreateNoteRequest(NoteMessages.CreateNoteRequest.parseFrom(entityStream))
+                    : mapper.toUpdateNoteRequest(NoteMessages.UpdateNoteRequest.parseFrom(entityStream));
+        } catch (InvalidProtocolBufferException e) {
+            throw new BadRequestException("Malformed " + mediaType + " body", e);
+        }
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return type == NoteResponse.class
+                || type == PartialNoteResponse.class
+                || type == ErrorResponse.class
+                || List.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeTo(
+            Object entity,
+            Class<?> type,
+            Type genericType,
+            Annotation[] annotations,
+            MediaType mediaType,
+            MultivaluedMap<String, Object> httpHeaders,
+            OutputStream entityStream) throws IOException {
+        if (entity instanceof List<?> notes) {
+            mapper.toMessage(notes).writeTo(entityStream);
+        } else if (entity instanceof ErrorResponse error) {
+            mapper.toMessage(error).writeTo(entityStream);
+        } else {
+            mapper.toNoteMessage(entity).writeTo(entityStream);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.notes.infrastructure.adapter.in.rest;
+
+import com.example.notes.application.port.in.ListNotesUseCase.ListNotesQuery;
+import com.example.notes.application.port.in.SearchNotesUseCase;
+import com.example.notes.application.port.in.SearchNotesUseCase.SearchNotesQuery;
+import com.example.notes.application.port.in.reactive.ReactiveCreateNoteUseCase;
+import com.example.notes.application.port.in.reactive.ReactiveDeleteNoteUseCase;
+import com.example.notes.application.port.in.reactive.ReactiveGetNoteUseCase;
+import com.example.notes.application.port.in.reactive.ReactiveListNotesUseCase;
+import com.example.notes.application.port.in.reactive.ReactiveStreamNotesUseCase;
+import com.example.notes.application.port.in.reactive.ReactiveUpdateNoteUseCase;
+import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.NoteCursor;
+import com.example.notes.domain.model.TagFilter;
+import com.example.notes.infrastructure.adapter.in.rest.dto.CreateNoteRequest;
+import com.example.notes.infrastructure.adapter.in.rest.dto.NoteResponse;
+import com.example.notes.infrastructure.adapter.in.rest.dto.NoteSearchHitResponse;
+import com.example.notes.infrastructure.adapter.in.rest.dto.UpdateNoteRequest;
+import com.example.notes.infrastructure.adapter.in.rest.mapper.NoteRestMapper;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import org.jboss.resteasy.reactive.common.util.RestMediaType;
+import org.jboss.resteasy.reactive.RestStreamElementType;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Event-loop variant of {@link NoteRestAdapter}, built instead of it when
+ * {@code notes.persistence.mode=reactive}. Full-text search has no reactive port yet and is
+ * offloaded to a worker thread. The summary view and sparse fieldsets have no reactive projection
+ * and answer 400 instead of a full note.
+ */
+@Path("/v1/notes")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+@CompressibleResponse
+@IfBuildProperty(name = "notes.persistence.mode", stringValue = "reactive")
+public class ReactiveNoteRestAdapter {
+
+    private final ReactiveCreateNoteUseCase createNoteUseCase;
+    private final ReactiveDeleteNoteUseCase deleteNoteUseCase;
+    private final ReactiveGetNoteUseCase getNoteUseCase;
+    private final ReactiveListNotesUseCase listNotesUseCase;
+    private final SearchNotesUseCase searchNotesUseCase;
+    private final ReactiveStreamNotesUseCase streamNotesUseCase;
+    private final ReactiveUpdateNoteUseCase updateNoteUseCase;
+    private final NoteRestMapper mapper;
+
+    public ReactiveNoteRestAdapter(
+            ReactiveCreateNoteUseCase createNoteUseCase,
+            ReactiveDeleteNoteUseCase deleteNoteUseCase,
+            ReactiveGetNoteUseCase getNoteUseCase,
+            ReactiveListNotesUseCase listNotesUseCase,
+            SearchNotesUseCase searchNotesUseCase,
+            ReactiveStreamNotesUseCase streamNotesUseCase,
+            ReactiveUpdateNoteUseCase updateNoteUseCase,
+            NoteRestMapper mapper) {
+        this.createNoteUseCase = createNoteUseCase;
+        this.deleteNoteUseCase = deleteNoteUseCase;
+        this.getNoteUseCase = getNoteUseCase;
+        this.listNotesUseCase = listNotesUseCase;
+        this.searchNotesUseCase = searchNotesUseCase;
+        this.streamNotesUseCase = streamNotesUseCase;
+        this.updateNoteUseCase = updateNoteUseCase;
+        this.mapper = mapper;
+    }
+
+    @POST
+    public Uni<Response> createNote(@Valid CreateNoteRequest request) {
+        return createNoteUseCase.createNote(mapper.toCommand(request))
+                .map(note -> withValidators(Response.status(Response.Status.CREATED).entity(mapper.toResponse(note)), note).build());
+    }
+
+    @GET
+    @Path("/{id}")
+    public Uni<Response> getNoteById(
+            @PathParam("id") UUID id,
+            @QueryParam("fields") String fields,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+            @HeaderParam(HttpHeaders.IF_MODIFIED_SINCE) String ifModifiedSince,
+            @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding,
+            @Context Request request) {
+        rejectProjections(fields, "full");
+        if (ifNoneMatch == null && ifModifiedSince == null) {
+            return getNote(id);
+        }
+        return getNoteUseCase.getNoteVersion(id).chain(version -> {
+            EntityTag entityTag = ContentEncoding.current(
+                    mapper.toEntityTag(id, version.version(), MediaType.APPLICATION_JSON_TYPE),
+                    acceptEncoding, ifNoneMatch);
+            Date lastModified = mapper.toLastModified(version.updatedAt());
+            Response.ResponseBuilder notModified = request.evaluatePreconditions(lastModified, entityTag);
+            if (notModified != null) {
+                return Uni.createFrom().item(notModified.tag(entityTag).lastModified(lastModified).build());
+            }
+            return getNote(id);
+        });
+    }
+
+    @GET
+    public Uni<Response> listNotes(
+            @QueryParam("cursor") String cursor,
+            @QueryParam("limit") @DefaultValue("50") @Min(1) @Max(ListNotesQuery.MAX_LIMIT) int limit,
+            @QueryParam("tag") List<String> tag,
+            @QueryParam("tagMatch") @DefaultValue("all") @Pattern(regexp = "all|any", message = "tagMatch must be 'all' or 'any'") String tagMatch,
+            @QueryParam("view") @DefaultValue("full") @Pattern(regexp = "full|summary", message = "view must be 'full' or 'summary'") String view,
+            @QueryParam("fields") String fields,
+            @Context UriInfo uriInfo) {
+        rejectProjections(fields, view);
+        ListNotesQuery query = new ListNotesQuery(mapper.fromCursorToken(cursor), mapper.toTagFilter(tag, tagMatch), limit);
+        return listNotesUseCase.listNotes(query).map(page -> {
+            List<NoteResponse> response = page.notes().stream()
+                    .map(mapper::toResponse)
+                    .toList();
+            Response.ResponseBuilder builder = Response.ok(response);
+            page.next().ifPresent(next -> builder.link(
+                    uriInfo.getRequestUriBuilder()
+                            .replaceQueryParam("cursor", mapper.toCursorToken(next))
+                            .build(),
+                    "next"));
+            return builder.build();
+        });
+    }
+
+    // The lower qs keeps wildcard Accept headers on the paged JSON list, as in NoteRestAdapter.
+    @GET
+    @Produces(RestMediaType.APPLICATION_NDJSON + ";qs=0.5")
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    public Multi<NoteResponse> streamNotes(
+            @QueryParam("cursor") String cursor,
+            @QueryParam("tag") List<String> tag,
+            @QueryParam("tagMatch") @DefaultValue("all") @Pattern(regexp = "all|any", message = "tagMatch must be 'all' or 'any'") String tagMatch,
+            @QueryParam("view") @DefaultValue("full") @Pattern(regexp = "full|summary", message = "view must be 'full' or 'summary'") String view,
+            @QueryParam("fields") String fields) {
+        rejectProjections(fields, view);
+        NoteCursor after = mapper.fromCursorToken(cursor);
+        TagFilter tags = mapper.toTagFilter(tag, tagMatch);
+        return streamNotesUseCase.streamNotes(after, tags).map(mapper::toResponse);
+    }
+
+    @GET
+    @Path("/search")
+    @Blocking
+    public Response searchNotes(
+            @QueryParam("q") @NotBlank(message = "Search text is required") String text,
+            @QueryParam("limit") @DefaultValue("20") @Min(1) @Max(SearchNotesQuery.MAX_LIMIT) int limit) {
+        List<NoteSearchHitResponse> response = searchNotesUseCase.searchNotes(new SearchNotesQuery(text, limit))
+                .stream()
+                .map(mapper::toResponse)
+                .toList();
+        return Response.ok(response).build();
+    }
+
+    @PUT
+    @Path("/{id}")
+    public Uni<Response> updateNote(
+            @PathParam("id") UUID id,
+            @HeaderParam(HttpHeaders.IF_MATCH) String ifMatch,
+            @Valid UpdateNoteRequest request) {
+        return updateNoteUseCase.updateNote(id, mapper.toCommand(request, mapper.toExpectedVersion(id, ifMatch)))
+                .map(note -> withValidators(Response.ok(mapper.toResponse(note)), note).build());
+    }
+
+    @DELETE
+    @Path("/{id}")
+    public Uni<Response> deleteNote(@PathParam("id") UUID id) {
+        return deleteNoteUseCase.deleteNote(id)
+                .map(ignored -> Response.noContent().build());
+    }
+
+    private Uni<Response> getNote(UUID id) {
+        return getNoteUseCase.getNote(id)
+                .map(note -> withValidators(Response.ok(mapper.toResponse(note)), note).build());
+    }
+
+    private static void rejectProjections(String fields, String view) {
+        if (fields != null || view.equals("summary")) {
+            throw new BadRequestException("fields and view=summary are not supported in reactive mode");
+        }
+    }
+
+    private Response.ResponseBuilder withValidators(Response.ResponseBuilder builder, Note note) {
+        return builder
+                .tag(mapper.toEntityTag(note.id().value(), note.version(), MediaType.APPLICATION_JSON_TYPE))
+                .lastModified(mapper.toLastModified(note.updatedAt()));
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.notes.infrastructure.adapter.in.rest;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.http.HttpServerResponse;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compresses {@link CompressibleResponse} bodies with the best coding the client accepts once they
+ * reach {@code notes.http.compression.min-size} bytes. Compression runs while the body is being
+ * written, so streamed lists are never held in memory. A compressed body gets its own entity tag,
+ * the identity tag with the coding appended. Records the achieved ratio and the time spent in the
+ * compressor per coding.
+ */
+@Provider
+@CompressibleResponse
+public class ResponseCompressionInterceptor implements WriterInterceptor {
+
+    private final HttpHeaders requestHeaders;
+    private final HttpServerResponse response;
+    private final boolean enabled;
+    private final int minSize;
+    private final int level;
+    private final Map<ContentEncoding, DistributionSummary> ratios = new EnumMap<>(ContentEncoding.class);
+    private final Map<ContentEncoding, Timer> compressionTimes = new EnumMap<>(ContentEncoding.class);
+
+    public ResponseCompressionInterceptor(
+            HttpHeaders requestHeaders,
+            HttpServerResponse response,
+            MeterRegistry meterRegistry,
+            @ConfigProperty(name = "notes.http.compression.enabled", defaultValue = "true") boolean enabled,
+            @ConfigProperty(name = "notes.http.compression.min-size", defaultValue = "1024") int minSize,
+            @ConfigProperty(name = "notes.http.compression.level", defaultValue = "6") int level) {
+        this.requestHeaders = requestHeaders;
+        this.response = response;
+        this.enabled = enabled;
+        this.minSize = minSize;
+        this.level = level;
+        for (ContentEncoding encoding : ContentEncoding.values()) {
+            ratios.put(encoding, DistributionSummary.builder("notes.http.compression.ratio")
+                    .description("Uncompressed to compressed size of response bodies")
+                    .tag("encoding", encoding.token())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            compressionTimes.put(encoding, Timer.builder("notes.http.compression")
+                    .description("Time spent compressing response bodies")
+                    .tag("encoding", encoding.token())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+        if (!enabled || context.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            context.proceed();
+            return;
+        }
+        Object vary = context.getHeaders().getFirst(HttpHeaders.VARY);
+        context.getHeaders().putSingle(HttpHeaders.VARY, vary == null ? HttpHeaders.ACCEPT_ENCODING : vary + ", " + HttpHeaders.ACCEPT_ENCODING);
+        ContentEncoding encoding = ContentEncoding.negotiate(requestHeaders.getHeaderString(HttpHeaders.ACCEPT_ENCODING));
+        if (encoding == null) {
+            context.proceed();
+            return;
+        }
+
+        // Response headers are encoded before the body writer runs, so once the body turns out to
+        // be large enough the coding is set on the not yet committed HTTP response itself.
+        CompressingOutputStream output = new CompressingOutputStream(context.getOutputStream(), encoding, minSize, level, () -> {
+            response.headers().set(HttpHeaders.CONTENT_ENCODING, encoding.token());
+            response.headers().remove(HttpHeaders.CONTENT_LENGTH);
+            String entityTag = response.headers().get(HttpHeaders.ETAG);
+            if (entityTag != null) {
+                response.headers().set(HttpHeaders.ETAG, encoding.entityTag(EntityTag.valueOf(entityTag)).toString());
+            }
+        });
+        context.setOutputStream(output);
+        try {
+            context.proceed();
+            output.finish();
+        } finally {
+            output.release();
+        }
+        if (output.compressed() && output.compressedBytes() > 0) {
+            ratios.get(encoding).record((double) output.uncompressedBytes() / output.compressedBytes());
+            compressionTimes.get(encoding).record(output.compressionNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.notes.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.ext.Provider;
+
+@Provider
+@Produces(BinaryMediaType.APPLICATION_SMILE)
+@Consumes(BinaryMediaType.APPLICATION_SMILE)
+public class SmileMessageBodyHandler extends JacksonBinaryMessageBodyHandler {
+
+    public SmileMessageBodyHandler(ObjectMapper objectMapper) {
+        super(objectMapper, new SmileFactory());
+    }
+}
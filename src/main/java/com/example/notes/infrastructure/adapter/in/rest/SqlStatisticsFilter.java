@@ -0,0 +1,54 @@
+package com.example.notes.infrastructure.adapter.in.rest;
+
+import com.example.notes.infrastructure.adapter.out.persistence.SqlRequestStatistics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.resteasy.reactive.server.ServerResponseFilter;
+import org.jboss.resteasy.reactive.server.SimpleResourceInfo;
+
+/**
+ * Reports the SQL work done for each request: as {@code notes.sql.statements} and {@code notes.sql.rows}
+ * distributions per endpoint, and as response headers when {@code notes.sql-statistics.headers} is on.
+ * Streamed NDJSON bodies are written after the headers, so their statements are not included.
+ */
+public class SqlStatisticsFilter {
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String ROWS_HEADER = "X-SQL-Rows";
+
+    private final SqlRequestStatistics statistics;
+    private final MeterRegistry meterRegistry;
+    private final boolean headers;
+
+    public SqlStatisticsFilter(
+            SqlRequestStatistics statistics,
+            MeterRegistry meterRegistry,
+            @ConfigProperty(name = "notes.sql-statistics.headers", defaultValue = "false") boolean headers) {
+        this.statistics = statistics;
+        this.meterRegistry = meterRegistry;
+        this.headers = headers;
+    }
+
+    @ServerResponseFilter
+    public void recordSqlStatistics(ContainerResponseContext response, SimpleResourceInfo resource) {
+        int statements = statistics.statements();
+        int rows = statistics.rows();
+        String endpoint = resource == null
+                ? "unmatched"
+                : resource.getResourceClass().getSimpleName() + "." + resource.getMethodName();
+        DistributionSummary.builder("notes.sql.statements")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(statements);
+        DistributionSummary.builder("notes.sql.rows")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(rows);
+        if (headers) {
+            response.getHeaders().putSingle(STATEMENTS_HEADER, statements);
+            response.getHeaders().putSingle(ROWS_HEADER, rows);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.notes.infrastructure.adapter.in.rest.dto;
+
+import com.example.notes.application.port.in.CreateNotesUseCase;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+// Items are deliberately not @Valid: each one is validated on its own and reported in the per-item results.
+public record CreateNotesRequest(
+    @NotEmpty(message = "At least one note is required")
+    @Size(max = CreateNotesUseCase.MAX_BATCH_SIZE, message = "At most " + CreateNotesUseCase.MAX_BATCH_SIZE + " notes per batch")
+    List<@NotNull CreateNoteRequest> notes
+) {
+}
@@ -0,0 +1,18 @@
+package com.example.notes.infrastructure.adapter.in.rest.dto;
+
+import java.util.List;
+
+public record CreateNotesResponse(
+    int created,
+    int rejected,
+    List<Item> results
+) {
+
+    public record Item(
+        int index,
+        int status,
+        NoteResponse note,
+        String error
+    ) {
+    }
+}
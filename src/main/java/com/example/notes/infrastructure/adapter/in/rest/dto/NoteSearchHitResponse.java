@@ -0,0 +1,16 @@
+package com.example.notes.infrastructure.adapter.in.rest.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record NoteSearchHitResponse(
+    UUID id,
+    String title,
+    String snippet,
+    float rank,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    List<String> tags
+) {
+}
@@ -0,0 +1,16 @@
+package com.example.notes.infrastructure.adapter.in.rest.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record NoteSummaryResponse(
+    UUID id,
+    String title,
+    String snippet,
+    Integer contentLength,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    List<String> tags
+) {
+}
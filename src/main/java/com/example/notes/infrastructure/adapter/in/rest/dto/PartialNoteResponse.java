@@ -0,0 +1,49 @@
+package com.example.notes.infrastructure.adapter.in.rest.dto;
+
+import com.example.notes.domain.model.NoteField;
+import com.example.notes.domain.model.PartialNote;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+
+/**
+ * Sparse-fieldset view of a note. Writes {@code id} and the requested fields straight from the
+ * {@link PartialNote}, with the same names and formats as {@link NoteResponse}, instead of
+ * copying it into a response record first.
+ */
+public record PartialNoteResponse(PartialNote note) implements JsonSerializable {
+
+    @Override
+    public void serialize(JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject();
+        provider.defaultSerializeField("id", note.id().value(), generator);
+        if (note.has(NoteField.TITLE)) {
+            generator.writeStringField("title", note.title());
+        }
+        if (note.has(NoteField.CONTENT)) {
+            generator.writeStringField("content", note.content());
+        }
+        if (note.has(NoteField.CREATED_AT)) {
+            provider.defaultSerializeField("createdAt", note.createdAt(), generator);
+        }
+        if (note.has(NoteField.UPDATED_AT)) {
+            provider.defaultSerializeField("updatedAt", note.updatedAt(), generator);
+        }
+        if (note.has(NoteField.TAGS)) {
+            generator.writeArrayFieldStart("tags");
+            for (String tag : note.tags()) {
+                generator.writeString(tag);
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator generator, SerializerProvider provider, TypeSerializer typeSerializer) throws IOException {
+        serialize(generator, provider);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.notes.infrastructure.adapter.in.rest.mapper;
+
+import com.example.notes.domain.model.NoteField;
+import com.example.notes.domain.model.PartialNote;
+import com.example.notes.infrastructure.adapter.in.proto.NoteMessages;
+import com.example.notes.infrastructure.adapter.in.rest.NoteNotFoundExceptionMapper.ErrorResponse;
+import com.example.notes.infrastructure.adapter.in.rest.dto.CreateNoteRequest;
+import com.example.notes.infrastructure.adapter.in.rest.dto.NoteResponse;
+import com.example.notes.infrastructure.adapter.in.rest.dto.PartialNoteResponse;
+import com.example.notes.infrastructure.adapter.in.rest.dto.UpdateNoteRequest;
+import jakarta.enterprise.context.ApplicationScoped;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Converts the REST DTOs to and from the messages generated from {@code src/main/proto/note_messages.proto}
+ * for the protobuf representation. Fields that are null, or not requested in a sparse fieldset, are
+ * left out of the message.
+ */
+@ApplicationScoped
+public class NoteProtobufMapper {
+
+    public NoteMessages.Note toNoteMessage(Object note) {
+        return switch (note) {
+            case NoteResponse response -> toMessage(
+                    response.id(),
+                    response.title(),
+                    response.content(),
+                    response.createdAt(),
+                    response.updatedAt(),
+                    response.tags());
+            case PartialNoteResponse response -> {
+                PartialNote partial = response.note();
+                yield toMessage(
+                        partial.id().value(),
+                        partial.has(NoteField.TITLE) ? partial.title() : null,
+                        partial.has(NoteField.CONTENT) ? partial.content() : null,
+                        partial.has(NoteField.CREATED_AT) ? partial.createdAt() : null,
+                        partial.has(NoteField.UPDATED_AT) ? partial.updatedAt() : null,
+                        partial.has(NoteField.TAGS) ? partial.tags() : null);
+            }
+            default -> throw new IllegalArgumentException("No protobuf message for " + note.getClass().getName());
+        };
+    }
+
+    public NoteMessages.NoteList toMessage(List<?> notes) {
+        NoteMessages.NoteList.Builder message = NoteMessages.NoteList.newBuilder();
+        for (Object note : notes) {
+            message.addNotes(toNoteMessage(note));
+        }
+        return message.build();
+    }
+
+    public NoteMessages.ErrorResponse toMessage(ErrorResponse error) {
+        NoteMessages.ErrorResponse.Builder message = NoteMessages.ErrorResponse.newBuilder();
+        if (error.message() != null) {
+            message.setMessage(error.message());
+        }
+        return message.build();
+    }
+
+    public CreateNoteRequest toCreateNoteRequest(NoteMessages.CreateNoteRequest request) {
+        return new CreateNoteRequest(
+            request.hasTitle() ? request.getTitle() : null,
+            request.hasContent() ? request.getContent() : null,
+            List.copyOf(request.getTagsList())
+        );
+    }
+
+    public UpdateNoteRequest toUpdateNoteRequest(NoteMessages.UpdateNoteRequest request) {
+        return new UpdateNoteRequest(
+            request.hasTitle() ? request.getTitle() : null,
+            request.hasContent() ? request.getContent() : null,
+            List.copyOf(request.getTagsList())
+        );
+    }
+
+    private static NoteMessages.Note toMessage(
+            UUID id,
+            String title,
+            String content,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt,
+            List<String> tags) {
+        NoteMessages.Note.Builder message = NoteMessages.Note.newBuilder();
+        if (id != null) {
+            message.setId(id.toString());
+        }
+        if (title != null) {
+            message.setTitle(title);
+        }
+        if (content != null) {
+            message.setContent(content);
+        }
+        if (createdAt != null) {
+            message.setCreatedAt(toMicros(createdAt));
+        }
+        if (updatedAt != null) {
+            message.setUpdatedAt(toMicros(updatedAt));
+        }
+        if (tags != null) {
+            message.addAllTags(tags);
+        }
+        return message.build();
+    }
+
+    // The local date-time as epoch microseconds, with no zone applied.
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+}
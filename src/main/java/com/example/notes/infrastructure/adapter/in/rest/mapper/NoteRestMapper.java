@@ -1,16 +1,68 @@
 package com.example.notes.infrastructure.adapter.in.rest.mapper;
 
 import com.example.notes.application.port.in.CreateNoteUseCase.CreateNoteCommand;
+import com.example.notes.application.port.in.CreateNotesUseCase.CreateNoteResult;
 import com.example.notes.application.port.in.UpdateNoteUseCase.UpdateNoteCommand;
+import com.example.notes.domain.exception.NoteVersionConflictException;
 import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.NoteCursor;
+import com.example.notes.domain.model.NoteField;
+import com.example.notes.domain.model.NoteId;
+import com.example.notes.domain.model.NoteSearchHit;
+import com.example.notes.domain.model.NoteSummary;
+import com.example.notes.domain.model.TagFilter;
+import com.example.notes.infrastructure.adapter.in.rest.BinaryMediaType;
 import com.example.notes.infrastructure.adapter.in.rest.dto.CreateNoteRequest;
+import com.example.notes.infrastructure.adapter.in.rest.dto.CreateNotesResponse;
 import com.example.notes.infrastructure.adapter.in.rest.dto.NoteResponse;
+import com.example.notes.infrastructure.adapter.in.rest.dto.NoteSearchHitResponse;
+import com.example.notes.infrastructure.adapter.in.rest.dto.NoteSummaryResponse;
 import com.example.notes.infrastructure.adapter.in.rest.dto.UpdateNoteRequest;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 @ApplicationScoped
 public class NoteRestMapper {
 
+    private static final String CURSOR_SEPARATOR = "|";
+    private static final String ETAG_VERSION_SEPARATOR = "-v";
+    private static final String ETAG_FORMAT_SEPARATOR = "-";
+    // Every representation is a different byte sequence, so each gets its own strong tag.
+    private static final Map<String, String> ETAG_FORMATS = Map.of(
+        MediaType.APPLICATION_JSON, "json",
+        BinaryMediaType.APPLICATION_CBOR, "cbor",
+        BinaryMediaType.APPLICATION_SMILE, "smile",
+        BinaryMediaType.APPLICATION_PROTOBUF, "protobuf"
+    );
+    // Content codings ResponseCompressionInterceptor appends to the tag of a compressed body.
+    private static final Set<String> ETAG_CODINGS = Set.of("gzip", "deflate");
+    private static final Map<String, NoteField> FIELD_NAMES = Map.of(
+        "id", NoteField.ID,
+        "title", NoteField.TITLE,
+        "content", NoteField.CONTENT,
+        "createdAt", NoteField.CREATED_AT,
+        "updatedAt", NoteField.UPDATED_AT,
+        "tags", NoteField.TAGS
+    );
+
     public CreateNoteCommand toCommand(CreateNoteRequest request) {
         return new CreateNoteCommand(
             request.title(),
@@ -19,11 +71,12 @@ public class NoteRestMapper {
         );
     }
 
-    public UpdateNoteCommand toCommand(UpdateNoteRequest request) {
+    public UpdateNoteCommand toCommand(UpdateNoteRequest request, Long expectedVersion) {
         return new UpdateNoteCommand(
             request.title(),
             request.content(),
-            request.tags()
+            request.tags(),
+            expectedVersion
         );
     }
 
@@ -37,4 +90,139 @@ public class NoteRestMapper {
             note.tags()
         );
     }
+
+    public NoteSearchHitResponse toResponse(NoteSearchHit hit) {
+        Note note = hit.note();
+        return new NoteSearchHitResponse(
+            note.id().value(),
+            note.title(),
+            hit.snippet(),
+            hit.rank(),
+            note.createdAt(),
+            note.updatedAt(),
+            note.tags()
+        );
+    }
+
+    public NoteSummaryResponse toResponse(NoteSummary summary) {
+        return new NoteSummaryResponse(
+            summary.id().value(),
+            summary.title(),
+            summary.snippet(),
+            summary.contentLength(),
+            summary.createdAt(),
+            summary.updatedAt(),
+            summary.tags()
+        );
+    }
+
+    public CreateNotesResponse toResponse(List<CreateNoteResult> results) {
+        List<CreateNotesResponse.Item> items = new ArrayList<>(results.size());
+        int created = 0;
+        for (int index = 0; index < results.size(); index++) {
+            CreateNoteResult result = results.get(index);
+            if (result.isCreated()) {
+                created++;
+                items.add(new CreateNotesResponse.Item(index, Response.Status.CREATED.getStatusCode(), toResponse(result.note()), null));
+            } else {
+                items.add(new CreateNotesResponse.Item(index, Response.Status.BAD_REQUEST.getStatusCode(), null, result.error()));
+            }
+        }
+        return new CreateNotesResponse(created, results.size() - created, items);
+    }
+
+    public EntityTag toEntityTag(UUID id, long version, MediaType mediaType) {
+        String format = ETAG_FORMATS.get(mediaType.getType() + "/" + mediaType.getSubtype());
+        if (format == null) {
+            throw new IllegalArgumentException("No entity tag for " + mediaType);
+        }
+        return new EntityTag(id + ETAG_VERSION_SEPARATOR + Long.toString(version, 36) + ETAG_FORMAT_SEPARATOR + format);
+    }
+
+    /**
+     * Translates an {@code If-Match} header into the version the client expects to overwrite.
+     * The tag of any representation and content coding names the same version, so whichever one
+     * the client read matches. Returns null when the header is absent or {@code *}; a tag that can never match
+     * this note is a conflict.
+     */
+    public Long toExpectedVersion(UUID id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        int coding = value.lastIndexOf(ETAG_FORMAT_SEPARATOR);
+        if (coding > 0 && value.endsWith("\"") && ETAG_CODINGS.contains(value.substring(coding + 1, value.length() - 1))) {
+            value = value.substring(0, coding) + "\"";
+        }
+        String prefix = "\"" + id + ETAG_VERSION_SEPARATOR;
+        int format = value.lastIndexOf(ETAG_FORMAT_SEPARATOR);
+        if (value.startsWith(prefix) && value.endsWith("\"") && format > prefix.length()
+                && ETAG_FORMATS.containsValue(value.substring(format + 1, value.length() - 1))) {
+            try {
+                return Long.parseLong(value.substring(prefix.length(), format), 36);
+            } catch (NumberFormatException e) {
+                throw new NoteVersionConflictException(id);
+            }
+        }
+        throw new NoteVersionConflictException(id);
+    }
+
+    // HTTP dates only carry whole seconds, so anything finer would never compare equal to If-Modified-Since.
+    public Date toLastModified(LocalDateTime updatedAt) {
+        return Date.from(updatedAt.atZone(ZoneId.systemDefault()).toInstant().truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    public TagFilter toTagFilter(List<String> tags, String match) {
+        return new TagFilter(
+            tags != null ? Set.copyOf(tags) : Set.of(),
+            TagFilter.Match.valueOf(match.toUpperCase(Locale.ROOT))
+        );
+    }
+
+    /**
+     * Parses a comma-separated {@code fields} parameter using the JSON property names of
+     * {@link NoteResponse}. Returns null when absent (the full note); {@code id} is always included.
+     */
+    public Set<NoteField> toFields(String fields) {
+        if (fields == null) {
+            return null;
+        }
+        Set<NoteField> result = EnumSet.of(NoteField.ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            NoteField field = FIELD_NAMES.get(trimmed);
+            if (field == null) {
+                throw new BadRequestException("Unknown field: " + trimmed);
+            }
+            result.add(field);
+        }
+        return result;
+    }
+
+    public String toCursorToken(NoteCursor cursor) {
+        String raw = cursor.createdAt() + CURSOR_SEPARATOR + cursor.id().value();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public NoteCursor fromCursorToken(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(CURSOR_SEPARATOR);
+            if (separator < 0) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new NoteCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                NoteId.of(UUID.fromString(raw.substring(separator + 1)))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor", e);
+        }
+    }
 }
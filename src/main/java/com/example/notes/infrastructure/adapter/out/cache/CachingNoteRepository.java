@@ -0,0 +1,234 @@
+package com.example.notes.infrastructure.adapter.out.cache;
+
+import com.example.notes.application.port.out.NoteRepository;
+import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.NoteCursor;
+import com.example.notes.domain.model.NoteField;
+import com.example.notes.domain.model.NoteId;
+import com.example.notes.domain.model.NoteSearchHit;
+import com.example.notes.domain.model.NoteSummary;
+import com.example.notes.domain.model.NoteVersion;
+import com.example.notes.domain.model.PartialNote;
+import com.example.notes.domain.model.TagFilter;
+import com.example.notes.infrastructure.adapter.out.persistence.JpaNoteRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Alternative;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+
+/**
+ * Read-through cache in front of {@link JpaNoteRepository} for single-note lookups.
+ * Notes are immutable, so cached instances are shared between callers as-is.
+ */
+@ApplicationScoped
+@Alternative
+@Priority(1)
+public class CachingNoteRepository implements NoteRepository {
+
+    private final JpaNoteRepository delegate;
+    private final TransactionSynchronizationRegistry transactionRegistry;
+    private final NoteCacheInvalidationPublisher invalidationPublisher;
+    private final boolean enabled;
+    private final AsyncCache<NoteId, Note> cache;
+    private final StatsCounter statsCounter = new ConcurrentStatsCounter();
+
+    public CachingNoteRepository(
+            JpaNoteRepository delegate,
+            TransactionSynchronizationRegistry transactionRegistry,
+            NoteCacheInvalidationPublisher invalidationPublisher,
+            MeterRegistry meterRegistry,
+            @ConfigProperty(name = "notes.cache.enabled", defaultValue = "true") boolean enabled,
+            @ConfigProperty(name = "notes.cache.maximum-size", defaultValue = "10000") long maximumSize,
+            @ConfigProperty(name = "notes.cache.expire-after-write", defaultValue = "5M") Duration expireAfterWrite) {
+        this.delegate = delegate;
+        this.transactionRegistry = transactionRegistry;
+        this.invalidationPublisher = invalidationPublisher;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats(() -> statsCounter)
+                .buildAsync();
+        // Exported as cache.gets, cache.size, cache.evictions etc. tagged cache=notes.
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "notes");
+    }
+
+    @Override
+    public Note insert(Note note) {
+        return delegate.insert(note);
+    }
+
+    @Override
+    public void insertAll(List<Note> notes) {
+        delegate.insertAll(notes);
+    }
+
+    @Override
+    public Note update(Note note) {
+        Note updated = delegate.update(note);
+        invalidate(note.id());
+        return updated;
+    }
+
+    @Override
+    public Optional<Note> findById(NoteId id) {
+        if (!enabled) {
+            return delegate.findById(id);
+        }
+        CompletableFuture<Note> loading = new CompletableFuture<>();
+        CompletableFuture<Note> existing = cache.asMap().putIfAbsent(id, loading);
+        if (existing != null) {
+            statsCounter.recordHits(1);
+            return Optional.ofNullable(await(existing));
+        }
+        statsCounter.recordMisses(1);
+        return Optional.ofNullable(load(id, loading));
+    }
+
+    @Override
+    public Optional<NoteVersion> findVersionById(NoteId id) {
+        Note cached = enabled ? loaded(id) : null;
+        if (cached != null) {
+            return Optional.of(NoteVersion.of(cached));
+        }
+        return delegate.findVersionById(id);
+    }
+
+    @Override
+    public Optional<NoteVersion> lockVersionById(NoteId id) {
+        return delegate.lockVersionById(id);
+    }
+
+    // Served from a cached note when there is one; partial reads are never cached themselves.
+    @Override
+    public Optional<PartialNote> findPartialById(NoteId id, Set<NoteField> fields) {
+        Note cached = enabled ? loaded(id) : null;
+        if (cached != null) {
+            return Optional.of(PartialNote.of(cached, fields));
+        }
+        return delegate.findPartialById(id, fields);
+    }
+
+    @Override
+    public List<Note> findPage(NoteCursor after, TagFilter tags, int limit) {
+        return delegate.findPage(after, tags, limit);
+    }
+
+    @Override
+    public List<NoteSummary> findSummaryPage(NoteCursor after, TagFilter tags, int limit) {
+        return delegate.findSummaryPage(after, tags, limit);
+    }
+
+    @Override
+    public List<PartialNote> findPartialPage(NoteCursor after, TagFilter tags, int limit, Set<NoteField> fields) {
+        return delegate.findPartialPage(after, tags, limit, fields);
+    }
+
+    @Override
+    public Stream<Note> streamAfter(NoteCursor after, TagFilter tags) {
+        return delegate.streamAfter(after, tags);
+    }
+
+    @Override
+    public List<NoteSearchHit> search(String text, int limit) {
+        return delegate.search(text, limit);
+    }
+
+    @Override
+    public boolean deleteById(NoteId id) {
+        boolean deleted = delegate.deleteById(id);
+        if (deleted) {
+            invalidate(id);
+        }
+        return deleted;
+    }
+
+    public void invalidateAll(Collection<NoteId> ids) {
+        cache.synchronous().invalidateAll(ids);
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return statsCounter.snapshot();
+    }
+
+    // The lookup runs on the caller's thread and transaction, outside any map lock: a loading
+    // function inside Cache.get would hold a monitor across JDBC I/O and pin virtual threads.
+    // Concurrent callers wait on the future instead, and invalidating it mid-load discards the result.
+    private Note load(NoteId id, CompletableFuture<Note> loading) {
+        Note note;
+        try {
+            note = delegate.findById(id).orElse(null);
+        } catch (RuntimeException e) {
+            cache.asMap().remove(id, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+        if (note == null) {
+            cache.asMap().remove(id, loading);
+        }
+        loading.complete(note);
+        return note;
+    }
+
+    // Reads through the map view, which records no statistics: only findById counts hits and misses.
+    private Note loaded(NoteId id) {
+        CompletableFuture<Note> future = cache.asMap().get(id);
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return null;
+        }
+        return future.join();
+    }
+
+    private static Note await(CompletableFuture<Note> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // A concurrent reader may repopulate the entry from the old row before the writing
+    // transaction commits, so the entry is dropped again once the transaction completes.
+    private void invalidate(NoteId id) {
+        cache.synchronous().invalidate(id);
+        invalidationPublisher.publish(id);
+        if (transactionRegistry.getTransactionStatus() == Status.STATUS_ACTIVE) {
+            transactionRegistry.registerInterposedSynchronization(new Synchronization() {
+                @Override
+                public void beforeCompletion() {
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    cache.synchronous().invalidate(id);
+                }
+            });
+        }
+    }
+}
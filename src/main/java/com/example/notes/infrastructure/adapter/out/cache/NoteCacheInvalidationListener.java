@@ -0,0 +1,152 @@
+package com.example.notes.infrastructure.adapter.out.cache;
+
+import com.example.notes.domain.model.NoteId;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps a dedicated connection LISTENing for notes changed on any node and evicts them from the
+ * local cache. Notifications arriving within the batch window, counted from the first of them, are
+ * evicted together, and the whole
+ * cache is flushed whenever the connection is (re)established because anything sent while it was
+ * down has been missed.
+ */
+@ApplicationScoped
+public class NoteCacheInvalidationListener {
+
+    private static final Logger LOG = Logger.getLogger(NoteCacheInvalidationListener.class);
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+
+    private final CachingNoteRepository cache;
+    private final boolean enabled;
+    private final String jdbcUrl;
+    private final String username;
+    private final String password;
+    private final Duration batchWindow;
+    private final Duration reconnectDelay;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    public NoteCacheInvalidationListener(
+            CachingNoteRepository cache,
+            @ConfigProperty(name = "notes.cache.invalidation.enabled", defaultValue = "true") boolean enabled,
+            @ConfigProperty(name = "quarkus.datasource.jdbc.url") String jdbcUrl,
+            @ConfigProperty(name = "quarkus.datasource.username") Optional<String> username,
+            @ConfigProperty(name = "quarkus.datasource.password") Optional<String> password,
+            @ConfigProperty(name = "notes.cache.invalidation.batch-window", defaultValue = "PT0.05S") Duration batchWindow,
+            @ConfigProperty(name = "notes.cache.invalidation.reconnect-delay", defaultValue = "5S") Duration reconnectDelay) {
+        this.cache = cache;
+        this.enabled = enabled;
+        this.jdbcUrl = jdbcUrl;
+        // An empty value (as in the H2 test setup) reads as absent, which a String injection rejects.
+        this.username = username.orElse("");
+        this.password = password.orElse("");
+        this.batchWindow = batchWindow;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "note-cache-invalidation-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + NoteCacheInvalidationPublisher.CHANNEL);
+                }
+                cache.invalidateAll();
+                LOG.debugf("Listening for note cache invalidations on %s", NoteCacheInvalidationPublisher.CHANNEL);
+                listen(connection.unwrap(PGConnection.class));
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                LOG.warnf(e, "Note cache invalidation listener lost its connection, reconnecting in %s", reconnectDelay);
+                cache.invalidateAll();
+                sleep(reconnectDelay);
+            }
+        }
+    }
+
+    private void listen(PGConnection connection) throws SQLException {
+        while (running) {
+            PGNotification[] notifications = connection.getNotifications(POLL_TIMEOUT_MILLIS);
+            if (notifications == null || notifications.length == 0) {
+                continue;
+            }
+            cache.invalidateAll(collectBatch(connection, notifications, batchWindow));
+        }
+    }
+
+    // The window is a fixed deadline, so a steady stream of writes cannot keep extending it.
+    static Set<NoteId> collectBatch(PGConnection connection, PGNotification[] first, Duration window) throws SQLException {
+        Set<NoteId> ids = new HashSet<>();
+        collect(first, ids);
+        long deadline = System.nanoTime() + window.toNanos();
+        while (ids.size() < MAX_BATCH_SIZE) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            // getNotifications(0) would block until the next notification.
+            if (remainingMillis <= 0) {
+                break;
+            }
+            PGNotification[] more = connection.getNotifications((int) remainingMillis);
+            if (more == null || more.length == 0) {
+                break;
+            }
+            collect(more, ids);
+        }
+        return ids;
+    }
+
+    static void collect(PGNotification[] notifications, Set<NoteId> ids) {
+        for (PGNotification notification : notifications) {
+            try {
+                ids.add(NoteId.of(UUID.fromString(notification.getParameter())));
+            } catch (IllegalArgumentException e) {
+                LOG.warnf("Ignoring malformed note cache invalidation payload: %s", notification.getParameter());
+            }
+        }
+    }
+
+    private void sleep(Duration delay) {
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
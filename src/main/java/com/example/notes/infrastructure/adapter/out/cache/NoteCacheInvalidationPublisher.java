@@ -0,0 +1,51 @@
+package com.example.notes.infrastructure.adapter.out.cache;
+
+import com.example.notes.domain.model.NoteId;
+import com.example.notes.infrastructure.adapter.out.persistence.SqlRequestStatistics;
+import io.quarkus.arc.Arc;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+
+/**
+ * Announces changed notes to every node through PostgreSQL NOTIFY. The notification is sent on
+ * the writing transaction's connection, so PostgreSQL only delivers it once that transaction
+ * commits and drops it on rollback.
+ */
+@ApplicationScoped
+public class NoteCacheInvalidationPublisher {
+
+    public static final String CHANNEL = "note_cache_invalidation";
+
+    private final EntityManager entityManager;
+    private final SqlRequestStatistics statistics;
+    private final boolean enabled;
+
+    public NoteCacheInvalidationPublisher(
+            EntityManager entityManager,
+            SqlRequestStatistics statistics,
+            @ConfigProperty(name = "notes.cache.invalidation.enabled", defaultValue = "true") boolean enabled) {
+        this.entityManager = entityManager;
+        this.statistics = statistics;
+        this.enabled = enabled;
+    }
+
+    public void publish(NoteId id) {
+        if (!enabled) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+                statement.setString(1, CHANNEL);
+                statement.setString(2, id.toString());
+                statement.execute();
+            }
+        });
+        if (Arc.container().requestContext().isActive()) {
+            statistics.jdbcStatementExecuted();
+        }
+    }
+}
@@ -1,56 +1,459 @@
 package com.example.notes.infrastructure.adapter.out.persistence;
 
 import com.example.notes.application.port.out.NoteRepository;
+import com.example.notes.domain.exception.NoteVersionConflictException;
 import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.NoteCursor;
+import com.example.notes.domain.model.NoteField;
 import com.example.notes.domain.model.NoteId;
+import com.example.notes.domain.model.NoteSearchHit;
+import com.example.notes.domain.model.NoteSummary;
+import com.example.notes.domain.model.NoteVersion;
+import com.example.notes.domain.model.PartialNote;
+import com.example.notes.domain.model.TagFilter;
 import com.example.notes.infrastructure.adapter.out.persistence.mapper.NotePersistenceMapper;
+import io.micrometer.core.annotation.Timed;
+import io.opentelemetry.instrumentation.annotations.SpanAttribute;
+import io.opentelemetry.instrumentation.annotations.WithSpan;
+import io.quarkus.arc.Arc;
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import io.quarkus.panache.common.Sort;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.Query;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @ApplicationScoped
 public class JpaNoteRepository implements NoteRepository {
 
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final String REPOSITORY_TIMER = "notes.repository";
+
+    // The prefix and length are written with the body, so listing summaries never reads a full
+    // TEXT value, nor a compressed one that SQL could not slice or measure.
+    private static final String SUMMARY_COLUMNS = "id, title, tags, created_at, updated_at, version, content_prefix, content_length";
+
+    private static final String HEADLINE_OPTIONS = "'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MinWords=10, MaxWords=30'";
+
+    // Ranks against the GIN-indexed search_vector first and only builds headlines for the top hits.
+    private static final String SEARCH_SQL = """
+            SELECT n.id, n.title, n.content, n.content_compressed, n.content_prefix, n.content_length,
+                   n.created_at, n.updated_at, n.tags, n.version, hit.rank,
+                   ts_headline('english', n.content, websearch_to_tsquery('english', :text), %s) AS snippet
+            FROM (
+                SELECT id, ts_rank(search_vector, websearch_to_tsquery('english', :text)) AS rank
+                FROM note
+                WHERE search_vector @@ websearch_to_tsquery('english', :text)
+                ORDER BY rank DESC, id DESC
+                LIMIT :limit
+            ) hit
+            JOIN note n ON n.id = hit.id
+            ORDER BY hit.rank DESC, n.id DESC
+            """.formatted(HEADLINE_OPTIONS);
+
+    // Headlines for compressed bodies, which SQL cannot inflate: the decoded texts are sent back in one array.
+    private static final String HEADLINES_SQL = """
+            SELECT ts_headline('english', b.body, websearch_to_tsquery('english', :text), %s)
+            FROM unnest(CAST(:bodies AS TEXT[])) WITH ORDINALITY AS b(body, position)
+            ORDER BY b.position
+            """.formatted(HEADLINE_OPTIONS);
+
+    // search_vector indexes content_search_vector in place of a compressed body (V8); the application
+    // writes it from the decoded text, one statement per flushed batch.
+    private static final String CONTENT_SEARCH_VECTOR_SQL = """
+            UPDATE note n SET content_search_vector = setweight(to_tsvector('english', b.body), 'B')
+            FROM unnest(CAST(:ids AS UUID[]), CAST(:bodies AS TEXT[])) AS b(id, body)
+            WHERE n.id = b.id
+            """;
+
     private final NotePersistenceMapper mapper;
+    private final SqlRequestStatistics statistics;
+    private final int insertBatchSize;
 
-    public JpaNoteRepository(NotePersistenceMapper mapper) {
+    public JpaNoteRepository(
+            NotePersistenceMapper mapper,
+            SqlRequestStatistics statistics,
+            @ConfigProperty(name = "quarkus.hibernate-orm.jdbc.statement-batch-size", defaultValue = "50") int insertBatchSize) {
         this.mapper = mapper;
+        this.statistics = statistics;
+        this.insertBatchSize = insertBatchSize;
     }
 
     @Override
-    public Note save(Note note) {
-        NoteJpaEntity existingEntity = NoteJpaEntity.findById(note.id().value());
-        if (existingEntity != null) {
-            mapper.updateJpaEntity(existingEntity, note);
-            return mapper.toDomainEntity(existingEntity);
-        }
+    @Timed(value = REPOSITORY_TIMER, extraTags = {"method", "insert"}, histogram = true)
+    @WithSpan
+    public Note insert(Note note) {
         NoteJpaEntity entity = mapper.toNewJpaEntity(note);
         entity.persist();
+        if (entity.contentCompressed != null) {
+            NoteJpaEntity.flush();
+            writeContentSearchVectors(List.of(note));
+        }
         return mapper.toDomainEntity(entity);
     }
 
+    // Ids are assigned by the domain, so persist() needs no round trip and the inserts are batched on flush.
     @Override
-    public Optional<Note> findById(NoteId id) {
+    @Timed(value = REPOSITORY_TIMER, extraTags = {"method", "insertAll"}, histogram = true)
+    @WithSpan
+    public void insertAll(List<Note> notes) {
+        EntityManager entityManager = NoteJpaEntity.getEntityManager();
+        List<Note> compressed = new ArrayList<>();
+        for (int i = 0; i < notes.size(); i++) {
+            NoteJpaEntity entity = mapper.toNewJpaEntity(notes.get(i));
+            entityManager.persist(entity);
+            if (entity.contentCompressed != null) {
+                compressed.add(notes.get(i));
+            }
+            if ((i + 1) % insertBatchSize == 0) {
+                entityManager.flush();
+                writeContentSearchVectors(compressed);
+                compressed.clear();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        writeContentSearchVectors(compressed);
+    }
+
+    // Served from the persistence context without a SELECT when the caller already loaded the note in this transaction.
+    @Override
+    @Timed(value = REPOSITORY_TIMER, extraTags = {"method", "update"}, histogram = true)
+    @WithSpan
+    public Note update(Note note) {
+        NoteJpaEntity entity = NoteJpaEntity.findById(note.id().value());
+        if (entity == null || entity.version != note.version()) {
+            throw new NoteVersionConflictException(note.id().value());
+        }
+        boolean wasCompressed = entity.contentCompressed != null;
+        mapper.updateJpaEntity(entity, note);
+        flushVersioned(note.id());
+        if (entity.contentCompressed != null) {
+            writeContentSearchVectors(List.of(note));
+        } else if (wasCompressed) {
+            clearContentSearchVector(note.id());
+        }
+        return mapper.toDomainEntity(entity);
+    }
+
+    @Override
+    @Timed(value = REPOSITORY_TIMER, extraTags = {"method", "findById"}, histogram = true)
+    @WithSpan
+    public Optional<Note> findById(@SpanAttribute("note.id") NoteId id) {
         return NoteJpaEntity.<NoteJpaEntity>findByIdOptional(id.value())
                 .map(mapper::toDomainEntity);
     }
 
     @Override
-    public List<Note> findAll() {
-        return NoteJpaEntity.<NoteJpaEntity>listAll()
-                .stream()
+    @Timed(value = REPOSITORY_TIMER, extraTags = {"method", "findVersionById"}, histogram = true)
+    @WithSpan
+    public Optional<NoteVersion> findVersionById(@SpanAttribute("note.id") NoteId id) {
+        List<Object[]> rows = NoteJpaEntity.getEntityManager()
+                .createQuery("select n.version, n.updatedAt from NoteJpaEntity n where n.id = :id", Object[].class)
+                .setParameter("id", id.value())
+                .getResultList();
+        return countRows(rows).stream()
+                .findFirst()
+                .map(row -> new NoteVersion((Long) row[0], (LocalDateTime) row[1]));
+    }
+
+    // Loads the whole entity so a following update() in this transaction finds it without another SELECT.
+    @Override
+    @Timed(value = REPOSITORY_TIMER, extraTags = {"method", "lockVersionById"}, histogram = true)
+    @WithSpan
+    public Optional<NoteVersion> lockVersionById(@SpanAttribute("note.id") NoteId id) {
+        return NoteJpaEntity.<NoteJpaEntity>findByIdOptional(id.value(), LockModeType.PESSIMISTIC_WRITE)
+                .map(entity -> new NoteVersion(entity.version, entity.updatedAt));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    @Timed(value = REPOSITORY_TIMER, extraTags = {"method", "findPartialById"}, histogram = true)
+    @WithSpan
+    public Optional<PartialNote> findPartialById(@SpanAttribute("note.id") NoteId id, Set<NoteField> fields) {
+        Query query = NoteJpaEntity.getEntityManager()
+                .createNativeQuery("SELECT " + partialColumns(fields) + " FROM note WHERE id = :id")
+                .setParameter("id", id.value());
+        List<Object[]> rows = withPartialScalars(query, fields).getResultList();
+        return countRows(rows).stream()
+                .findFirst()
+                .map(row -> toPartialNote(row, fields));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    @Timed(value = REPOSITORY_TIMER, extraTags = {"method", "findPage"}, histogram = true)
+    @WithSpan
+    public List<Note> findPage(NoteCursor after, TagFilter tags, int limit) {
+        List<NoteJpaEntity> entities;
+        if (tags.isEmpty()) {
+            entities = newestFirstAfter(after).range(0, limit - 1).list();
+        } else {
+            entities = taggedNewestFirstAfter(after, tags).setMaxResults(limit).getResultList();
+        }
+        return entities.stream()
                 .map(mapper::toDomainEntity)
                 .toList();
     }
 
     @Override
-    public boolean existsById(NoteId id) {
-        return NoteJpaEntity.findByIdOptional(id.value()).isPresent();
+    @SuppressWarnings("unchecked")
+    @Timed(value = REPOSITORY_TIMER, extraTags = {"method", "findSummaryPage"}, histogram = true)
+    @WithSpan
+    public List<NoteSummary> findSummaryPage(NoteCursor after, TagFilter tags, int limit) {
+        List<NoteSummaryRow> rows = nativeNewestFirstAfter(
+                        SUMMARY_COLUMNS, after, tags,
+                        sql -> NoteJpaEntity.getEntityManager().createNativeQuery(sql, NoteJpaEntity.SUMMARY_MAPPING))
+                .setMaxResults(limit)
+                .getResultList();
+        return countRows(rows).stream()
+                .map(mapper::toDomainSummary)
+                .toList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    @Timed(value = REPOSITORY_TIMER, extraTags = {"method", "findPartialPage"}, histogram = true)
+    @WithSpan
+    public List<PartialNote> findPartialPage(NoteCursor after, TagFilter tags, int limit, Set<NoteField> fields) {
+        Query query = nativeNewestFirstAfter(
+                partialColumns(fields), after, tags,
+                sql -> NoteJpaEntity.getEntityManager().createNativeQuery(sql));
+        List<Object[]> rows = withPartialScalars(query, fields)
+                .setMaxResults(limit)
+                .getResultList();
+        return countRows(rows).stream()
+                .map(row -> toPartialNote(row, fields))
+                .toList();
+    }
+
+    // Timed until the stream is opened; reading the rows counts towards the caller.
+    @Override
+    @SuppressWarnings("unchecked")
+    @Timed(value = REPOSITORY_TIMER, extraTags = {"method", "streamAfter"}, histogram = true)
+    @WithSpan
+    public Stream<Note> streamAfter(NoteCursor after, TagFilter tags) {
+        Stream<NoteJpaEntity> entities;
+        if (tags.isEmpty()) {
+            entities = newestFirstAfter(after)
+                    .withHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                    .withHint(HibernateHints.HINT_READ_ONLY, true)
+                    .stream();
+        } else {
+            entities = taggedNewestFirstAfter(after, tags)
+                    .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                    .setHint(HibernateHints.HINT_READ_ONLY, true)
+                    .getResultStream();
+        }
+        return entities.map(this::toDetachedDomainEntity);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    @Timed(value = REPOSITORY_TIMER, extraTags = {"method", "search"}, histogram = true)
+    @WithSpan
+    public List<NoteSearchHit> search(String text, int limit) {
+        List<Object[]> rows = NoteJpaEntity.getEntityManager()
+                .createNativeQuery(SEARCH_SQL, NoteJpaEntity.SEARCH_HIT_MAPPING)
+                .setParameter("text", text)
+                .setParameter("limit", limit)
+                .getResultList();
+        List<NoteSearchHit> hits = new ArrayList<>(rows.size());
+        List<Integer> compressed = new ArrayList<>();
+        for (Object[] row : rows) {
+            NoteJpaEntity entity = (NoteJpaEntity) row[0];
+            if (entity.contentCompressed != null) {
+                compressed.add(hits.size());
+            }
+            hits.add(new NoteSearchHit(mapper.toDomainEntity(entity), (Float) row[1], (String) row[2]));
+        }
+        if (!compressed.isEmpty()) {
+            List<String> headlines = NoteJpaEntity.getEntityManager()
+                    .createNativeQuery(HEADLINES_SQL)
+                    .setParameter("text", text)
+                    .setParameter("bodies", compressed.stream().map(i -> hits.get(i).note().content()).toArray(String[]::new))
+                    .getResultList();
+            for (int i = 0; i < compressed.size(); i++) {
+                NoteSearchHit hit = hits.get(compressed.get(i));
+                hits.set(compressed.get(i), new NoteSearchHit(hit.note(), hit.rank(), headlines.get(i)));
+            }
+        }
+        return hits;
+    }
+
+    // Projections hydrate no entity, so SqlRowCountingInterceptor never sees their rows.
+    private <T> List<T> countRows(List<T> rows) {
+        if (Arc.container().requestContext().isActive()) {
+            statistics.rowsRead(rows.size());
+        }
+        return rows;
+    }
+
+    private static void writeContentSearchVectors(List<Note> compressedNotes) {
+        if (compressedNotes.isEmpty()) {
+            return;
+        }
+        NoteJpaEntity.getEntityManager()
+                .createNativeQuery(CONTENT_SEARCH_VECTOR_SQL)
+                .setParameter("ids", compressedNotes.stream().map(note -> note.id().value()).toArray(UUID[]::new))
+                .setParameter("bodies", compressedNotes.stream().map(Note::content).toArray(String[]::new))
+                .executeUpdate();
+    }
+
+    // The generated search_vector already ignores the stale terms once content is set; this just drops them.
+    private static void clearContentSearchVector(NoteId id) {
+        NoteJpaEntity.getEntityManager()
+                .createNativeQuery("UPDATE note SET content_search_vector = NULL WHERE id = :id")
+                .setParameter("id", id.value())
+                .executeUpdate();
+    }
+
+    // Flushing here turns a concurrent commit caught by the @Version check into a domain
+    // conflict instead of an opaque failure at transaction commit.
+    private static void flushVersioned(NoteId id) {
+        try {
+            NoteJpaEntity.flush();
+        } catch (OptimisticLockException e) {
+            throw new NoteVersionConflictException(id.value());
+        }
+    }
+
+    private static PanacheQuery<NoteJpaEntity> newestFirstAfter(NoteCursor after) {
+        Sort newestFirst = Sort.descending("createdAt", "id");
+        if (after == null) {
+            return NoteJpaEntity.findAll(newestFirst);
+        }
+        return NoteJpaEntity.find(
+                "createdAt <= ?1 and (createdAt < ?1 or id < ?2)",
+                newestFirst,
+                after.createdAt(),
+                after.id().value());
+    }
+
+    // JPQL has no array containment operators, so tag filters go native to use @> / && and the GIN index on tags.
+    private static Query taggedNewestFirstAfter(NoteCursor after, TagFilter tags) {
+        return nativeNewestFirstAfter(
+                "*", after, tags,
+                sql -> NoteJpaEntity.getEntityManager().createNativeQuery(sql, NoteJpaEntity.class));
+    }
+
+    private static Query nativeNewestFirstAfter(String columns, NoteCursor after, TagFilter tags, Function<String, Query> createQuery) {
+        List<String> values = List.copyOf(tags.tags());
+        StringBuilder sql = new StringBuilder("SELECT ").append(columns).append(" FROM note WHERE TRUE");
+        if (!values.isEmpty()) {
+            StringJoiner placeholders = new StringJoiner(", ", "CAST(ARRAY[", "] AS TEXT[])");
+            for (int i = 0; i < values.size(); i++) {
+                placeholders.add(":tag" + i);
+            }
+            sql.append(" AND tags ")
+                    .append(tags.match() == TagFilter.Match.ALL ? "@> " : "&& ")
+                    .append(placeholders);
+        }
+        if (after != null) {
+            sql.append(" AND created_at <= :createdAt AND (created_at < :createdAt OR id < :id)");
+        }
+        sql.append(" ORDER BY created_at DESC, id DESC");
+
+        Query query = createQuery.apply(sql.toString());
+        for (int i = 0; i < values.size(); i++) {
+            query.setParameter("tag" + i, values.get(i));
+        }
+        if (after != null) {
+            query.setParameter("createdAt", after.createdAt());
+            query.setParameter("id", after.id().value());
+        }
+        return query;
+    }
+
+    // Id, timestamps and version are fixed-width and always read (paging and validators need them);
+    // the variable-length, possibly TOASTed columns only when their field was asked for.
+    // partialColumns, withPartialScalars and toPartialNote must agree on the column order.
+    private static String partialColumns(Set<NoteField> fields) {
+        StringJoiner columns = new StringJoiner(", ")
+                .add("id").add("created_at").add("updated_at").add("version");
+        if (fields.contains(NoteField.TITLE)) {
+            columns.add("title");
+        }
+        if (fields.contains(NoteField.CONTENT)) {
+            columns.add("content").add("content_compressed");
+        }
+        if (fields.contains(NoteField.TAGS)) {
+            columns.add("tags");
+        }
+        return columns.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Query withPartialScalars(Query query, Set<NoteField> fields) {
+        NativeQuery<Object[]> nativeQuery = query.unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .addScalar("updated_at", LocalDateTime.class)
+                .addScalar("version", Long.class);
+        if (fields.contains(NoteField.TITLE)) {
+            nativeQuery.addScalar("title", String.class);
+        }
+        if (fields.contains(NoteField.CONTENT)) {
+            nativeQuery.addScalar("content", String.class)
+                    .addScalar("content_compressed", byte[].class);
+        }
+        if (fields.contains(NoteField.TAGS)) {
+            nativeQuery.addScalar("tags", String[].class);
+        }
+        return nativeQuery;
+    }
+
+    private PartialNote toPartialNote(Object[] row, Set<NoteField> fields) {
+        int column = 4;
+        String title = fields.contains(NoteField.TITLE) ? (String) row[column++] : null;
+        String content = null;
+        if (fields.contains(NoteField.CONTENT)) {
+            content = mapper.contentOf((String) row[column], (byte[]) row[column + 1]);
+            column += 2;
+        }
+        List<String> tags = null;
+        if (fields.contains(NoteField.TAGS)) {
+            String[] values = (String[]) row[column];
+            tags = values != null ? List.of(values) : List.of();
+        }
+        return new PartialNote(
+                fields,
+                NoteId.of((UUID) row[0]),
+                title,
+                content,
+                (LocalDateTime) row[1],
+                (LocalDateTime) row[2],
+                tags,
+                (Long) row[3]);
+    }
+
+    // Streamed entities are evicted right away so the persistence context stays empty
+    // and memory does not grow with the number of rows scrolled.
+    private Note toDetachedDomainEntity(NoteJpaEntity entity) {
+        Note note = mapper.toDomainEntity(entity);
+        NoteJpaEntity.getEntityManager().detach(entity);
+        return note;
     }
 
     @Override
-    public void deleteById(NoteId id) {
-        NoteJpaEntity.deleteById(id.value());
+    @Timed(value = REPOSITORY_TIMER, extraTags = {"method", "deleteById"}, histogram = true)
+    @WithSpan
+    public boolean deleteById(@SpanAttribute("note.id") NoteId id) {
+        // Panache's deleteById loads the entity before removing it; a bulk delete is one statement.
+        return NoteJpaEntity.delete("id", id.value()) > 0;
     }
 }
@@ -0,0 +1,100 @@
+package com.example.notes.infrastructure.adapter.out.persistence;
+
+import com.example.notes.domain.model.NoteSummary;
+import com.example.notes.infrastructure.adapter.out.persistence.mapper.NoteContentCodec;
+import com.example.notes.infrastructure.adapter.out.persistence.mapper.NotePersistenceMapper;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.persistence.EntityManager;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compresses existing plain-text bodies above the threshold, one short transaction per batch,
+ * walking the table in id order, and writes the search terms, prefix and length of each compressed
+ * body, including bodies compressed before those columns existed. The note itself is unchanged, so
+ * versions (and ETags) are kept; the version predicate skips rows updated concurrently, which the
+ * update path stores anyway.
+ */
+@ApplicationScoped
+public class NoteContentCompressionBackfill {
+
+    private static final Logger LOG = Logger.getLogger(NoteContentCompressionBackfill.class);
+    private static final int BATCH_SIZE = 100;
+
+    private final NoteContentCodec contentCodec;
+    private final boolean backfillAtStart;
+
+    public NoteContentCompressionBackfill(
+            NoteContentCodec contentCodec,
+            @ConfigProperty(name = "notes.content-compression.backfill-at-start", defaultValue = "false") boolean backfillAtStart) {
+        this.contentCodec = contentCodec;
+        this.backfillAtStart = backfillAtStart;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        if (backfillAtStart && contentCodec.enabled()) {
+            int compressed = backfill();
+            LOG.infof("Compressed or indexed %d existing note bodies", compressed);
+        }
+    }
+
+    public int backfill() {
+        int compressed = 0;
+        Batch batch = new Batch(new UUID(0, 0), 0, false);
+        while (!batch.last()) {
+            UUID after = batch.lastId();
+            batch = QuarkusTransaction.requiringNew().call(() -> compressBatch(after));
+            compressed += batch.compressed();
+        }
+        return compressed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Batch compressBatch(UUID after) {
+        EntityManager entityManager = NoteJpaEntity.getEntityManager();
+        List<Object[]> rows = entityManager.createNativeQuery("""
+                        SELECT id, content, content_compressed, version FROM note
+                        WHERE id > :after
+                          AND (content IS NOT NULL AND octet_length(content) >= :threshold
+                               OR content_compressed IS NOT NULL AND (content_search_vector IS NULL OR content_length IS NULL))
+                        ORDER BY id
+                        LIMIT :limit
+                        """)
+                .setParameter("after", after)
+                .setParameter("threshold", contentCodec.threshold())
+                .setParameter("limit", BATCH_SIZE)
+                .getResultList();
+
+        int compressed = 0;
+        for (Object[] row : rows) {
+            String content = row[1] != null ? (String) row[1] : contentCodec.decompress((byte[]) row[2]);
+            byte[] body = row[1] != null ? contentCodec.compress(content) : (byte[]) row[2];
+            if (body != null) {
+                compressed += entityManager.createNativeQuery("""
+                                UPDATE note SET content = NULL, content_compressed = :body,
+                                                content_search_vector = setweight(to_tsvector('english', :content), 'B'),
+                                                content_prefix = :prefix, content_length = :length
+                                WHERE id = :id AND version = :version
+                                """)
+                        .setParameter("body", body)
+                        .setParameter("content", content)
+                        .setParameter("prefix", NotePersistenceMapper.contentPrefixOf(content))
+                        .setParameter("length", NoteSummary.contentLengthOf(content))
+                        .setParameter("id", row[0])
+                        .setParameter("version", ((Number) row[3]).longValue())
+                        .executeUpdate();
+            }
+        }
+        UUID lastId = rows.isEmpty() ? after : (UUID) rows.get(rows.size() - 1)[0];
+        return new Batch(lastId, compressed, rows.size() < BATCH_SIZE);
+    }
+
+    private record Batch(UUID lastId, int compressed, boolean last) {
+    }
+}
@@ -2,11 +2,14 @@ package com.example.notes.infrastructure.adapter.out.persistence;
 
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import jakarta.persistence.Column;
+import jakarta.persistence.ColumnResult;
+import jakarta.persistence.ConstructorResult;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.EntityResult;
 import jakarta.persistence.Id;
+import jakarta.persistence.SqlResultSetMapping;
 import jakarta.persistence.Table;
-import org.hibernate.annotations.UuidGenerator;
+import jakarta.persistence.Version;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -15,19 +18,52 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "note")
+@SqlResultSetMapping(
+    name = NoteJpaEntity.SEARCH_HIT_MAPPING,
+    entities = @EntityResult(entityClass = NoteJpaEntity.class),
+    columns = {
+        @ColumnResult(name = "rank", type = Float.class),
+        @ColumnResult(name = "snippet", type = String.class)
+    }
+)
+@SqlResultSetMapping(
+    name = NoteJpaEntity.SUMMARY_MAPPING,
+    classes = @ConstructorResult(targetClass = NoteSummaryRow.class, columns = {
+        @ColumnResult(name = "id", type = UUID.class),
+        @ColumnResult(name = "title", type = String.class),
+        @ColumnResult(name = "tags", type = String[].class),
+        @ColumnResult(name = "created_at", type = LocalDateTime.class),
+        @ColumnResult(name = "updated_at", type = LocalDateTime.class),
+        @ColumnResult(name = "version", type = Long.class),
+        @ColumnResult(name = "content_prefix", type = String.class),
+        @ColumnResult(name = "content_length", type = Integer.class)
+    })
+)
 public class NoteJpaEntity extends PanacheEntityBase {
 
+    public static final String SEARCH_HIT_MAPPING = "NoteSearchHit";
+    public static final String SUMMARY_MAPPING = "NoteSummary";
+
     @Id
-    @GeneratedValue
-    @UuidGenerator
     public UUID id;
 
     @Column(nullable = false)
     public String title;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
+    // Null when the body is stored Deflate-compressed in contentCompressed.
+    @Column(columnDefinition = "TEXT")
     public String content;
 
+    @Column(name = "content_compressed", columnDefinition = "BYTEA")
+    public byte[] contentCompressed;
+
+    // Written with the body, so summaries neither slice content nor inflate contentCompressed.
+    @Column(name = "content_prefix", columnDefinition = "TEXT")
+    public String contentPrefix;
+
+    @Column(name = "content_length")
+    public Integer contentLength;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     public LocalDateTime createdAt;
 
@@ -36,4 +72,8 @@ public class NoteJpaEntity extends PanacheEntityBase {
 
     @Column(nullable = false)
     public List<String> tags = new ArrayList<>();
+
+    @Version
+    @Column(nullable = false)
+    public long version;
 }
@@ -0,0 +1,18 @@
+package com.example.notes.infrastructure.adapter.out.persistence;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Target of the {@link NoteJpaEntity#SUMMARY_MAPPING} constructor projection.
+ */
+public record NoteSummaryRow(
+        UUID id,
+        String title,
+        String[] tags,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long version,
+        String contentPrefix,
+        Integer contentLength) {
+}
@@ -0,0 +1,41 @@
+package com.example.notes.infrastructure.adapter.out.persistence;
+
+import jakarta.enterprise.context.RequestScoped;
+
+/**
+ * SQL statements prepared and rows read by Hibernate while serving the current request, plus
+ * statements sent on the raw JDBC connection that report themselves through
+ * {@link #jdbcStatementExecuted()}. Rows are hydrated entities, counted by
+ * {@link SqlRowCountingInterceptor}, and rows of projections, which the repository counts itself.
+ */
+@RequestScoped
+public class SqlRequestStatistics {
+
+    private int statements;
+    private int rows;
+
+    void statementPrepared() {
+        statements++;
+    }
+
+    // Session.doWork bypasses the StatementInspector, so callers using it count their statements here.
+    public void jdbcStatementExecuted() {
+        statements++;
+    }
+
+    void rowLoaded() {
+        rows++;
+    }
+
+    void rowsRead(int count) {
+        rows += count;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public int rows() {
+        return rows;
+    }
+}
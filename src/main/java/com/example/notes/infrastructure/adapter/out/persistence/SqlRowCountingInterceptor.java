@@ -0,0 +1,27 @@
+package com.example.notes.infrastructure.adapter.out.persistence;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.hibernate.orm.PersistenceUnitExtension;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+// Counts hydrated entities as rows; projections such as the version lookup load none, so JpaNoteRepository counts their rows.
+@ApplicationScoped
+@PersistenceUnitExtension
+public class SqlRowCountingInterceptor implements Interceptor {
+
+    private final SqlRequestStatistics statistics;
+
+    public SqlRowCountingInterceptor(SqlRequestStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        if (Arc.container().requestContext().isActive()) {
+            statistics.rowLoaded();
+        }
+        return false;
+    }
+}
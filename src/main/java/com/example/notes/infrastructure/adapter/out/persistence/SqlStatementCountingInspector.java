@@ -0,0 +1,27 @@
+package com.example.notes.infrastructure.adapter.out.persistence;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.hibernate.orm.PersistenceUnitExtension;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Sees every statement Hibernate prepares, including flushes at commit, but not raw JDBC work such as
+// NOTIFY, which counts itself; statements outside a request (startup, LISTEN) are not attributed to anyone.
+@ApplicationScoped
+@PersistenceUnitExtension
+public class SqlStatementCountingInspector implements StatementInspector {
+
+    private final SqlRequestStatistics statistics;
+
+    public SqlStatementCountingInspector(SqlRequestStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        if (Arc.container().requestContext().isActive()) {
+            statistics.statementPrepared();
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.notes.infrastructure.adapter.out.persistence.mapper;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Deflate compression for note bodies stored in {@code content_compressed}. Only bodies of at least
+ * {@code threshold} UTF-8 bytes that actually shrink are compressed; everything else stays plain text.
+ * Compressed bodies are always readable, whether or not compression is currently enabled.
+ */
+@ApplicationScoped
+public class NoteContentCodec {
+
+    private final boolean enabled;
+    private final int threshold;
+    private final int level;
+
+    public NoteContentCodec(
+            @ConfigProperty(name = "notes.content-compression.enabled", defaultValue = "false") boolean enabled,
+            @ConfigProperty(name = "notes.content-compression.threshold", defaultValue = "16384") int threshold,
+            @ConfigProperty(name = "notes.content-compression.level", defaultValue = "1") int level) {
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.level = level;
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    public int threshold() {
+        return threshold;
+    }
+
+    /**
+     * @return the compressed body, or {@code null} when the content should be stored as text
+     */
+    public byte[] compress(String content) {
+        if (!enabled || content.length() < threshold / 4) {
+            return null;
+        }
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < threshold) {
+            return null;
+        }
+        Deflater deflater = new Deflater(level);
+        try {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4);
+            try (DeflaterOutputStream output = new DeflaterOutputStream(compressed, deflater)) {
+                output.write(bytes);
+            }
+            return compressed.size() < bytes.length ? compressed.toByteArray() : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public String decompress(byte[] compressed) {
+        try (InflaterInputStream input = new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt compressed note content", e);
+        }
+    }
+}
@@ -2,16 +2,27 @@ package com.example.notes.infrastructure.adapter.out.persistence.mapper;
 
 import com.example.notes.domain.model.Note;
 import com.example.notes.domain.model.NoteId;
+import com.example.notes.domain.model.NoteSummary;
 import com.example.notes.infrastructure.adapter.out.persistence.NoteJpaEntity;
+import com.example.notes.infrastructure.adapter.out.persistence.NoteSummaryRow;
 import jakarta.enterprise.context.ApplicationScoped;
 
+import java.util.List;
+
 @ApplicationScoped
 public class NotePersistenceMapper {
 
+    private final NoteContentCodec contentCodec;
+
+    public NotePersistenceMapper(NoteContentCodec contentCodec) {
+        this.contentCodec = contentCodec;
+    }
+
     public NoteJpaEntity toNewJpaEntity(Note note) {
         NoteJpaEntity entity = new NoteJpaEntity();
+        entity.id = note.id().value();
         entity.title = note.title();
-        entity.content = note.content();
+        setContent(entity, note.content());
         entity.createdAt = note.createdAt();
         entity.updatedAt = note.updatedAt();
         entity.tags = note.tags();
@@ -20,7 +31,7 @@ public class NotePersistenceMapper {
 
     public void updateJpaEntity(NoteJpaEntity entity, Note note) {
         entity.title = note.title();
-        entity.content = note.content();
+        setContent(entity, note.content());
         entity.updatedAt = note.updatedAt();
         entity.tags = note.tags();
     }
@@ -29,10 +40,54 @@ public class NotePersistenceMapper {
         return Note.reconstitute(
             NoteId.of(entity.id),
             entity.title,
-            entity.content,
+            contentOf(entity),
             entity.createdAt,
             entity.updatedAt,
-            entity.tags
+            entity.tags,
+            entity.version
         );
     }
+
+    public NoteSummary toDomainSummary(NoteSummaryRow row) {
+        return new NoteSummary(
+            NoteId.of(row.id()),
+            row.title(),
+            row.tags() != null ? List.of(row.tags()) : List.of(),
+            row.createdAt(),
+            row.updatedAt(),
+            row.version(),
+            NoteSummary.snippetOf(row.contentPrefix()),
+            row.contentLength()
+        );
+    }
+
+    public String contentOf(NoteJpaEntity entity) {
+        return contentOf(entity.content, entity.contentCompressed);
+    }
+
+    public String contentOf(String content, byte[] contentCompressed) {
+        return content != null ? content : contentCodec.decompress(contentCompressed);
+    }
+
+    /**
+     * The first {@link NoteSummary#SNIPPET_LENGTH} characters of a body, as stored in {@code content_prefix}.
+     * Characters are code points, the unit of PostgreSQL's {@code substring} that backfilled the column
+     * in V9, so a pair of surrogates counts once and is never split.
+     */
+    public static String contentPrefixOf(String content) {
+        int end = 0;
+        for (int count = 0; count < NoteSummary.SNIPPET_LENGTH && end < content.length(); count++) {
+            end += Character.charCount(content.codePointAt(end));
+        }
+        return content.substring(0, end);
+    }
+
+    // Exactly one of the two columns holds the body, so switching between them clears the other.
+    private void setContent(NoteJpaEntity entity, String content) {
+        byte[] compressed = contentCodec.compress(content);
+        entity.content = compressed == null ? content : null;
+        entity.contentCompressed = compressed;
+        entity.contentPrefix = contentPrefixOf(content);
+        entity.contentLength = NoteSummary.contentLengthOf(content);
+    }
 }
@@ -0,0 +1 @@
+CREATE INDEX idx_note_created_at_id ON note (created_at DESC, id DESC);
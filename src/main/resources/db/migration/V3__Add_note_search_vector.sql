@@ -0,0 +1,8 @@
+ALTER TABLE note
+    ADD COLUMN search_vector TSVECTOR
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+            setweight(to_tsvector('english', coalesce(content, '')), 'B')
+        ) STORED;
+
+CREATE INDEX idx_note_search_vector ON note USING GIN (search_vector);
@@ -0,0 +1 @@
+CREATE INDEX idx_note_tags ON note USING GIN (tags);
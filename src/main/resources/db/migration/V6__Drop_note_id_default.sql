@@ -0,0 +1,3 @@
+-- Ids are time-ordered UUIDv7 values assigned by the application; gen_random_uuid() would
+-- silently fall back to random v4 keys.
+ALTER TABLE note ALTER COLUMN id DROP DEFAULT;
@@ -0,0 +1,10 @@
+-- Large bodies can be stored Deflate-compressed by the application (notes.content-compression.*);
+-- exactly one of content and content_compressed holds the body. Existing rows stay plain text
+-- until rewritten or compressed by notes.content-compression.backfill-at-start.
+ALTER TABLE note ALTER COLUMN content DROP NOT NULL;
+ALTER TABLE note ADD COLUMN content_compressed BYTEA;
+ALTER TABLE note ADD CONSTRAINT note_content_stored_once
+    CHECK ((content IS NULL) <> (content_compressed IS NULL));
+
+-- Already compressed: keep it out of line without another pglz pass.
+ALTER TABLE note ALTER COLUMN content_compressed SET STORAGE EXTERNAL;
@@ -0,0 +1,16 @@
+-- SQL cannot inflate content_compressed, so the application writes the search terms of a
+-- compressed body into content_search_vector and search_vector indexes them in place of content.
+-- Bodies compressed before this migration are indexed by notes.content-compression.backfill-at-start.
+ALTER TABLE note ADD COLUMN content_search_vector TSVECTOR;
+
+ALTER TABLE note DROP COLUMN search_vector;
+ALTER TABLE note
+    ADD COLUMN search_vector TSVECTOR
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+            CASE WHEN content IS NOT NULL THEN setweight(to_tsvector('english', content), 'B')
+                 ELSE coalesce(content_search_vector, ''::tsvector)
+            END
+        ) STORED;
+
+CREATE INDEX idx_note_search_vector ON note USING GIN (search_vector);
@@ -0,0 +1,11 @@
+-- List summaries read these instead of slicing and measuring content, which a compressed body
+-- (content_compressed) cannot be. The application writes both with every body; bodies compressed
+-- before this migration get them from notes.content-compression.backfill-at-start.
+ALTER TABLE note ADD COLUMN content_prefix TEXT;
+ALTER TABLE note ADD COLUMN content_length INTEGER;
+
+-- The prefix is NoteSummary.SNIPPET_LENGTH characters and the length is in UTF-8 bytes.
+UPDATE note
+SET content_prefix = substring(content, 1, 200),
+    content_length = octet_length(content)
+WHERE content IS NOT NULL;
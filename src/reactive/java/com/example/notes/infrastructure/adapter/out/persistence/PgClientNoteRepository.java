@@ -0,0 +1,212 @@
+package com.example.notes.infrastructure.adapter.out.persistence;
+
+import com.example.notes.application.port.out.ReactiveNoteRepository;
+import com.example.notes.domain.exception.NoteVersionConflictException;
+import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.NoteCursor;
+import com.example.notes.domain.model.NoteId;
+import com.example.notes.domain.model.NoteSummary;
+import com.example.notes.domain.model.NoteVersion;
+import com.example.notes.domain.model.TagFilter;
+import com.example.notes.infrastructure.adapter.out.cache.NoteCacheInvalidationPublisher;
+import com.example.notes.infrastructure.adapter.out.persistence.mapper.NoteContentCodec;
+import com.example.notes.infrastructure.adapter.out.persistence.mapper.NotePersistenceMapper;
+import io.quarkus.arc.properties.IfBuildProperty;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.mutiny.sqlclient.Pool;
+import io.vertx.mutiny.sqlclient.Row;
+import io.vertx.mutiny.sqlclient.SqlConnection;
+import io.vertx.mutiny.sqlclient.Transaction;
+import io.vertx.mutiny.sqlclient.Tuple;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link ReactiveNoteRepository} on the Vert.x reactive PostgreSQL client. Hibernate Reactive
+ * cannot share the persistence unit with Hibernate ORM, so this adapter talks SQL directly
+ * against the schema managed by the Flyway migrations.
+ */
+@ApplicationScoped
+@IfBuildProperty(name = "notes.persistence.mode", stringValue = "reactive")
+public class PgClientNoteRepository implements ReactiveNoteRepository {
+
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final String COLUMNS = "id, title, content, content_compressed, created_at, updated_at, tags, version";
+
+    // Search terms of a compressed body, which SQL cannot inflate ($8 is its decoded text, null when stored plain).
+    private static final String CONTENT_SEARCH_VECTOR = "setweight(to_tsvector('english', $8::text), 'B')";
+
+    private final Pool pool;
+    private final NoteContentCodec contentCodec;
+    private final boolean invalidationEnabled;
+
+    public PgClientNoteRepository(
+            Pool pool,
+            NoteContentCodec contentCodec,
+            @ConfigProperty(name = "notes.cache.invalidation.enabled", defaultValue = "true") boolean invalidationEnabled) {
+        this.pool = pool;
+        this.contentCodec = contentCodec;
+        this.invalidationEnabled = invalidationEnabled;
+    }
+
+    @Override
+    public Uni<Note> insert(Note note) {
+        byte[] compressed = contentCodec.compress(note.content());
+        return pool.preparedQuery("INSERT INTO note (" + COLUMNS + ", content_search_vector, content_prefix, content_length) "
+                        + "VALUES ($1, $2, $3, $4, $5, $6, $7, 0, " + CONTENT_SEARCH_VECTOR + ", $9, $10) RETURNING " + COLUMNS)
+                .execute(Tuple.from(Arrays.asList(
+                        note.id().value(),
+                        note.title(),
+                        compressed == null ? note.content() : null,
+                        compressed == null ? null : Buffer.buffer(compressed),
+                        note.createdAt(),
+                        note.updatedAt(),
+                        tagArray(note),
+                        compressed == null ? null : note.content(),
+                        NotePersistenceMapper.contentPrefixOf(note.content()),
+                        NoteSummary.contentLengthOf(note.content()))))
+                .map(rows -> toDomainEntity(rows.iterator().next()));
+    }
+
+    // The version predicate makes the check and the write one atomic statement.
+    @Override
+    public Uni<Note> update(Note note) {
+        byte[] compressed = contentCodec.compress(note.content());
+        return pool.preparedQuery("""
+                        UPDATE note SET title = $2, content = $3, content_compressed = $4, updated_at = $5, tags = $6, version = version + 1,
+                                        content_prefix = $9, content_length = $10, content_search_vector = """ + CONTENT_SEARCH_VECTOR + """
+                        WHERE id = $1 AND version = $7
+                        RETURNING\s""" + COLUMNS)
+                .execute(Tuple.from(Arrays.asList(
+                        note.id().value(),
+                        note.title(),
+                        compressed == null ? note.content() : null,
+                        compressed == null ? null : Buffer.buffer(compressed),
+                        note.updatedAt(),
+                        tagArray(note),
+                        note.version(),
+                        compressed == null ? null : note.content(),
+                        NotePersistenceMapper.contentPrefixOf(note.content()),
+                        NoteSummary.contentLengthOf(note.content()))))
+                .map(rows -> {
+                    if (rows.rowCount() == 0) {
+                        throw new NoteVersionConflictException(note.id().value());
+                    }
+                    return toDomainEntity(rows.iterator().next());
+                })
+                .call(() -> publishInvalidation(note.id()));
+    }
+
+    @Override
+    public Uni<Note> findById(NoteId id) {
+        return pool.preparedQuery("SELECT " + COLUMNS + " FROM note WHERE id = $1")
+                .execute(Tuple.of(id.value()))
+                .map(rows -> rows.rowCount() == 0 ? null : toDomainEntity(rows.iterator().next()));
+    }
+
+    @Override
+    public Uni<NoteVersion> findVersionById(NoteId id) {
+        return pool.preparedQuery("SELECT version, updated_at FROM note WHERE id = $1")
+                .execute(Tuple.of(id.value()))
+                .map(rows -> {
+                    if (rows.rowCount() == 0) {
+                        return null;
+                    }
+                    Row row = rows.iterator().next();
+                    return new NoteVersion(row.getLong("version"), row.getLocalDateTime("updated_at"));
+                });
+    }
+
+    @Override
+    public Multi<Note> findPage(NoteCursor after, TagFilter tags, int limit) {
+        List<Object> params = new ArrayList<>();
+        String sql = newestFirstAfter(after, tags, params) + " LIMIT $" + (params.size() + 1);
+        params.add(limit);
+        return pool.preparedQuery(sql)
+                .execute(Tuple.from(params))
+                .onItem().transformToMulti(rows -> Multi.createFrom().iterable(rows))
+                .map(this::toDomainEntity);
+    }
+
+    // PostgreSQL only keeps a portal open inside a transaction. It is committed once the stream
+    // completes and rolled back when it fails or is cancelled, before the connection is released.
+    @Override
+    public Multi<Note> streamAfter(NoteCursor after, TagFilter tags) {
+        List<Object> params = new ArrayList<>();
+        String sql = newestFirstAfter(after, tags, params);
+        return Multi.createFrom().resourceFromUni(
+                        () -> pool.getConnection().chain(connection -> connection.begin()
+                                .map(transaction -> new CursorTransaction(connection, transaction))
+                                .onFailure().call(connection::close)),
+                        cursor -> cursor.connection().prepare(sql)
+                                .onItem().transformToMulti(statement -> statement.createStream(STREAM_FETCH_SIZE, Tuple.from(params)).toMulti()))
+                .withFinalizer(
+                        cursor -> cursor.end(cursor.transaction().commit()),
+                        (cursor, failure) -> cursor.end(cursor.transaction().rollback()),
+                        cursor -> cursor.end(cursor.transaction().rollback()))
+                .map(this::toDomainEntity);
+    }
+
+    @Override
+    public Uni<Boolean> deleteById(NoteId id) {
+        return pool.preparedQuery("DELETE FROM note WHERE id = $1")
+                .execute(Tuple.of(id.value()))
+                .map(rows -> rows.rowCount() > 0)
+                .call(deleted -> deleted ? publishInvalidation(id) : Uni.createFrom().voidItem());
+    }
+
+    // Writes are auto-committed, so nodes running the blocking adapter can be told right after the statement.
+    private Uni<Void> publishInvalidation(NoteId id) {
+        if (!invalidationEnabled) {
+            return Uni.createFrom().voidItem();
+        }
+        return pool.preparedQuery("SELECT pg_notify($1, $2)")
+                .execute(Tuple.of(NoteCacheInvalidationPublisher.CHANNEL, id.toString()))
+                .replaceWithVoid();
+    }
+
+    private static String newestFirstAfter(NoteCursor after, TagFilter tags, List<Object> params) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS).append(" FROM note WHERE TRUE");
+        if (!tags.isEmpty()) {
+            params.add(tags.tags().toArray(String[]::new));
+            sql.append(tags.match() == TagFilter.Match.ALL ? " AND tags @> $" : " AND tags && $")
+                    .append(params.size()).append("::TEXT[]");
+        }
+        if (after != null) {
+            params.add(after.createdAt());
+            params.add(after.id().value());
+            sql.append(" AND (created_at, id) < ($").append(params.size() - 1).append(", $").append(params.size()).append(")");
+        }
+        return sql.append(" ORDER BY created_at DESC, id DESC").toString();
+    }
+
+    private record CursorTransaction(SqlConnection connection, Transaction transaction) {
+
+        Uni<Void> end(Uni<Void> completion) {
+            return completion.eventually(connection::close);
+        }
+    }
+
+    private static String[] tagArray(Note note) {
+        return note.tags().toArray(String[]::new);
+    }
+
+    private Note toDomainEntity(Row row) {
+        String[] tags = row.getArrayOfStrings("tags");
+        String content = row.getString("content");
+        return Note.reconstitute(
+                NoteId.of(row.getUUID("id")),
+                row.getString("title"),
+                content != null ? content : contentCodec.decompress(row.getBuffer("content_compressed").getBytes()),
+                row.getLocalDateTime("created_at"),
+                row.getLocalDateTime("updated_at"),
+                tags != null ? List.of(tags) : List.of(),
+                row.getLong("version"));
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.notes.application.service;
+
+import com.example.notes.application.port.in.CreateNoteUseCase.CreateNoteCommand;
+import com.example.notes.application.port.in.CreateNotesUseCase;
+import com.example.notes.application.port.in.CreateNotesUseCase.CreateNoteResult;
+import com.example.notes.application.port.out.NoteRepository;
+import com.example.notes.domain.exception.NoteValidationException;
+import com.example.notes.domain.model.Note;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@QuarkusTest
+class NoteApplicationServiceCreateNotesTest {
+
+    @Inject
+    NoteApplicationService service;
+
+    @InjectMock
+    NoteRepository noteRepository;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createNotes_insertsAllValidNotesInOneCall() {
+        List<CreateNoteCommand> commands = List.of(
+            new CreateNoteCommand("First", "Content", List.of("import")),
+            new CreateNoteCommand("Second", "Content", List.of())
+        );
+
+        List<CreateNoteResult> results = service.createNotes(commands);
+
+        ArgumentCaptor<List<Note>> notesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(noteRepository).insertAll(notesCaptor.capture());
+        assertEquals(List.of("First", "Second"), notesCaptor.getValue().stream().map(Note::title).toList());
+        assertTrue(results.stream().allMatch(CreateNoteResult::isCreated));
+        verify(noteRepository, never()).insert(any(Note.class));
+    }
+
+    @Test
+    void createNotes_reportsInvalidItemsInPlace() {
+        List<CreateNoteCommand> commands = List.of(
+            new CreateNoteCommand("Valid", "Content", List.of()),
+            new CreateNoteCommand("", "Content", List.of()),
+            new CreateNoteCommand("Also valid", "Content", List.of())
+        );
+
+        List<CreateNoteResult> results = service.createNotes(commands);
+
+        assertEquals(3, results.size());
+        assertEquals("Valid", results.get(0).note().title());
+        assertEquals("Title is required", results.get(1).error());
+        assertEquals("Also valid", results.get(2).note().title());
+    }
+
+    @Test
+    void createNotes_whenEveryItemIsInvalid_skipsRepository() {
+        List<CreateNoteResult> results = service.createNotes(List.of(new CreateNoteCommand("Title", " ", List.of())));
+
+        assertFalse(results.get(0).isCreated());
+        verify(noteRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    void createNotes_withTooManyItems_throwsValidationException() {
+        List<CreateNoteCommand> commands = Collections.nCopies(
+            CreateNotesUseCase.MAX_BATCH_SIZE + 1,
+            new CreateNoteCommand("Title", "Content", List.of())
+        );
+
+        assertThrows(NoteValidationException.class, () -> service.createNotes(commands));
+        verifyNoInteractions(noteRepository);
+    }
+}
@@ -27,7 +27,7 @@ class NoteApplicationServiceDeleteTest {
     @Test
     void deleteNote_whenNoteExists_deletesNote() {
         UUID noteId = UUID.randomUUID();
-        when(noteRepository.existsById(any(NoteId.class))).thenReturn(true);
+        when(noteRepository.deleteById(any(NoteId.class))).thenReturn(true);
 
         service.deleteNote(noteId);
 
@@ -39,7 +39,7 @@ class NoteApplicationServiceDeleteTest {
     @Test
     void deleteNote_whenNoteDoesNotExist_throwsNoteNotFoundException() {
         UUID noteId = UUID.randomUUID();
-        when(noteRepository.existsById(any(NoteId.class))).thenReturn(false);
+        when(noteRepository.deleteById(any(NoteId.class))).thenReturn(false);
 
         NoteNotFoundException exception = assertThrows(
             NoteNotFoundException.class,
@@ -47,18 +47,16 @@ class NoteApplicationServiceDeleteTest {
         );
 
         assertEquals("Note not found with id: " + noteId, exception.getMessage());
-        verify(noteRepository, never()).deleteById(any(NoteId.class));
     }
 
     @Test
-    void deleteNote_checksExistenceBeforeDeleting() {
+    void deleteNote_issuesOnlyTheDelete() {
         UUID noteId = UUID.randomUUID();
-        when(noteRepository.existsById(any(NoteId.class))).thenReturn(true);
+        when(noteRepository.deleteById(any(NoteId.class))).thenReturn(true);
 
         service.deleteNote(noteId);
 
-        var inOrder = inOrder(noteRepository);
-        inOrder.verify(noteRepository).existsById(any(NoteId.class));
-        inOrder.verify(noteRepository).deleteById(any(NoteId.class));
+        verify(noteRepository).deleteById(any(NoteId.class));
+        verifyNoMoreInteractions(noteRepository);
     }
 }
@@ -0,0 +1,60 @@
+package com.example.notes.application.service;
+
+import com.example.notes.application.port.out.NoteRepository;
+import com.example.notes.domain.exception.NoteNotFoundException;
+import com.example.notes.domain.model.NoteField;
+import com.example.notes.domain.model.NoteId;
+import com.example.notes.domain.model.NoteVersion;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@QuarkusTest
+class NoteApplicationServiceGetTest {
+
+    @Inject
+    NoteApplicationService service;
+
+    @InjectMock
+    NoteRepository noteRepository;
+
+    @Test
+    void getNoteVersion_usesVersionLookupInsteadOfFullRead() {
+        UUID id = UUID.randomUUID();
+        NoteVersion version = new NoteVersion(3, LocalDateTime.now());
+        when(noteRepository.findVersionById(NoteId.of(id))).thenReturn(Optional.of(version));
+
+        assertEquals(version, service.getNoteVersion(id));
+
+        verify(noteRepository, never()).findById(any(NoteId.class));
+    }
+
+    @Test
+    void getNoteVersion_whenNoteDoesNotExist_throwsNoteNotFoundException() {
+        UUID id = UUID.randomUUID();
+        when(noteRepository.findVersionById(any(NoteId.class))).thenReturn(Optional.empty());
+
+        assertThrows(NoteNotFoundException.class, () -> service.getNoteVersion(id));
+    }
+
+    @Test
+    void getPartialNote_whenNoteDoesNotExist_throwsNoteNotFoundException() {
+        UUID id = UUID.randomUUID();
+        Set<NoteField> fields = Set.of(NoteField.ID, NoteField.UPDATED_AT);
+        when(noteRepository.findPartialById(NoteId.of(id), fields)).thenReturn(Optional.empty());
+
+        assertThrows(NoteNotFoundException.class, () -> service.getPartialNote(id, fields));
+
+        verify(noteRepository, never()).findById(any(NoteId.class));
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.notes.application.service;
+
+import com.example.notes.application.port.in.ListNotesUseCase.ListNotesQuery;
+import com.example.notes.application.port.out.NoteRepository;
+import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.NoteCursor;
+import com.example.notes.domain.model.NoteId;
+import com.example.notes.domain.model.NotePage;
+import com.example.notes.domain.model.NoteSummary;
+import com.example.notes.domain.model.NoteSummaryPage;
+import com.example.notes.domain.model.TagFilter;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@QuarkusTest
+class NoteApplicationServiceListTest {
+
+    @Inject
+    NoteApplicationService service;
+
+    @InjectMock
+    NoteRepository noteRepository;
+
+    @Test
+    void listNotes_requestsOneMoreThanLimitToDetectNextPage() {
+        when(noteRepository.findPage(isNull(), eq(TagFilter.none()), eq(3))).thenReturn(List.of());
+
+        service.listNotes(new ListNotesQuery(null, null, 2));
+
+        verify(noteRepository).findPage(isNull(), eq(TagFilter.none()), eq(3));
+    }
+
+    @Test
+    void listNotes_whenMoreNotesThanLimit_returnsCursorOfLastNoteOnPage() {
+        Note first = Note.create("First", "Content", List.of());
+        Note second = Note.create("Second", "Content", List.of());
+        Note third = Note.create("Third", "Content", List.of());
+        when(noteRepository.findPage(isNull(), eq(TagFilter.none()), eq(3))).thenReturn(List.of(first, second, third));
+
+        NotePage page = service.listNotes(new ListNotesQuery(null, null, 2));
+
+        assertEquals(List.of(first, second), page.notes());
+        assertEquals(NoteCursor.of(second), page.next().orElseThrow());
+    }
+
+    @Test
+    void listNotes_whenLastPage_returnsNoCursor() {
+        Note note = Note.create("Title", "Content", List.of());
+        when(noteRepository.findPage(isNull(), eq(TagFilter.none()), eq(3))).thenReturn(List.of(note));
+
+        NotePage page = service.listNotes(new ListNotesQuery(null, null, 2));
+
+        assertEquals(List.of(note), page.notes());
+        assertTrue(page.next().isEmpty());
+    }
+
+    @Test
+    void listNotes_passesCursorToRepository() {
+        Note note = Note.create("Title", "Content", List.of());
+        NoteCursor cursor = NoteCursor.of(note);
+        when(noteRepository.findPage(any(NoteCursor.class), any(TagFilter.class), eq(11))).thenReturn(List.of());
+
+        service.listNotes(new ListNotesQuery(cursor, null, 10));
+
+        verify(noteRepository).findPage(eq(cursor), eq(TagFilter.none()), eq(11));
+    }
+
+    @Test
+    void listNotes_passesTagFilterToRepository() {
+        TagFilter tags = new TagFilter(Set.of("work", "urgent"), TagFilter.Match.ANY);
+        when(noteRepository.findPage(isNull(), eq(tags), eq(11))).thenReturn(List.of());
+
+        service.listNotes(new ListNotesQuery(null, tags, 10));
+
+        verify(noteRepository).findPage(isNull(), eq(tags), eq(11));
+    }
+
+    @Test
+    void listNoteSummaries_whenMoreSummariesThanLimit_returnsCursorOfLastSummaryOnPage() {
+        NoteSummary first = summary("First");
+        NoteSummary second = summary("Second");
+        NoteSummary third = summary("Third");
+        when(noteRepository.findSummaryPage(isNull(), eq(TagFilter.none()), eq(3))).thenReturn(List.of(first, second, third));
+
+        NoteSummaryPage page = service.listNoteSummaries(new ListNotesQuery(null, null, 2));
+
+        assertEquals(List.of(first, second), page.summaries());
+        assertEquals(NoteCursor.of(second), page.next().orElseThrow());
+        verify(noteRepository, never()).findPage(any(), any(), anyInt());
+    }
+
+    @Test
+    void streamNotes_handsEveryNoteToConsumerAndClosesStream() {
+        Note first = Note.create("First", "Content", List.of());
+        Note second = Note.create("Second", "Content", List.of());
+        AtomicBoolean closed = new AtomicBoolean();
+        when(noteRepository.streamAfter(isNull(), eq(TagFilter.none())))
+                .thenReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+        List<Note> received = new ArrayList<>();
+
+        service.streamNotes(null, TagFilter.none(), received::add);
+
+        assertEquals(List.of(first, second), received);
+        assertTrue(closed.get());
+    }
+
+    private static NoteSummary summary(String title) {
+        LocalDateTime now = LocalDateTime.now();
+        return new NoteSummary(NoteId.generate(), title, List.of(), now, now, 0, "Content", 7);
+    }
+}
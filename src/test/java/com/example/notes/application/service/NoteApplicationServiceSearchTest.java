@@ -0,0 +1,47 @@
+package com.example.notes.application.service;
+
+import com.example.notes.application.port.in.SearchNotesUseCase.SearchNotesQuery;
+import com.example.notes.application.port.out.NoteRepository;
+import com.example.notes.domain.exception.NoteValidationException;
+import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.NoteSearchHit;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@QuarkusTest
+class NoteApplicationServiceSearchTest {
+
+    @Inject
+    NoteApplicationService service;
+
+    @InjectMock
+    NoteRepository noteRepository;
+
+    @Test
+    void searchNotes_returnsHitsFromRepository() {
+        NoteSearchHit hit = new NoteSearchHit(Note.create("Title", "Content", List.of()), 0.5f, "<mark>Content</mark>");
+        when(noteRepository.search("content", 10)).thenReturn(List.of(hit));
+
+        List<NoteSearchHit> result = service.searchNotes(new SearchNotesQuery("content", 10));
+
+        assertEquals(List.of(hit), result);
+        verify(noteRepository).search("content", 10);
+    }
+
+    @Test
+    void searchNotesQuery_withBlankText_throwsValidationException() {
+        assertThrows(NoteValidationException.class, () -> new SearchNotesQuery("  ", 10));
+    }
+
+    @Test
+    void searchNotesQuery_withLimitAboveMaximum_throwsValidationException() {
+        assertThrows(NoteValidationException.class, () -> new SearchNotesQuery("text", SearchNotesQuery.MAX_LIMIT + 1));
+    }
+}
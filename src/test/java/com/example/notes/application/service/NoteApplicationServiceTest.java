@@ -3,6 +3,7 @@ package com.example.notes.application.service;
 import com.example.notes.application.port.in.CreateNoteUseCase.CreateNoteCommand;
 import com.example.notes.application.port.out.NoteRepository;
 import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.NoteId;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
 import jakarta.inject.Inject;
@@ -27,7 +28,7 @@ class NoteApplicationServiceTest {
     @Test
     void createNote_withValidCommand_savesNoteToRepository() {
         CreateNoteCommand command = new CreateNoteCommand("Title", "Content", List.of("tag1", "tag2"));
-        when(noteRepository.save(any(Note.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(noteRepository.insert(any(Note.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Note result = service.createNote(command);
 
@@ -35,18 +36,18 @@ class NoteApplicationServiceTest {
         assertEquals("Title", result.title());
         assertEquals("Content", result.content());
         assertEquals(List.of("tag1", "tag2"), result.tags());
-        verify(noteRepository, times(1)).save(any(Note.class));
+        verify(noteRepository, times(1)).insert(any(Note.class));
     }
 
     @Test
     void createNote_passesCorrectNoteToRepository() {
         CreateNoteCommand command = new CreateNoteCommand("Title", "Content", List.of("tag1"));
         ArgumentCaptor<Note> noteCaptor = ArgumentCaptor.forClass(Note.class);
-        when(noteRepository.save(any(Note.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(noteRepository.insert(any(Note.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         service.createNote(command);
 
-        verify(noteRepository).save(noteCaptor.capture());
+        verify(noteRepository).insert(noteCaptor.capture());
         Note savedNote = noteCaptor.getValue();
         assertEquals("Title", savedNote.title());
         assertEquals("Content", savedNote.content());
@@ -56,7 +57,7 @@ class NoteApplicationServiceTest {
     @Test
     void createNote_withNullTags_createsNoteWithEmptyTags() {
         CreateNoteCommand command = new CreateNoteCommand("Title", "Content", null);
-        when(noteRepository.save(any(Note.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(noteRepository.insert(any(Note.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Note result = service.createNote(command);
 
@@ -67,7 +68,7 @@ class NoteApplicationServiceTest {
     @Test
     void createNote_generatesUniqueIdForEachCall() {
         CreateNoteCommand command = new CreateNoteCommand("Title", "Content", List.of());
-        when(noteRepository.save(any(Note.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(noteRepository.insert(any(Note.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Note result1 = service.createNote(command);
         Note result2 = service.createNote(command);
@@ -78,18 +79,30 @@ class NoteApplicationServiceTest {
     @Test
     void createNote_setsCreatedAtAndUpdatedAtToSameValue() {
         CreateNoteCommand command = new CreateNoteCommand("Title", "Content", List.of());
-        when(noteRepository.save(any(Note.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(noteRepository.insert(any(Note.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         Note result = service.createNote(command);
 
         assertEquals(result.createdAt(), result.updatedAt());
     }
 
+    @Test
+    void createNote_insertsWithoutLookingUpExistingNote() {
+        CreateNoteCommand command = new CreateNoteCommand("Title", "Content", List.of());
+        when(noteRepository.insert(any(Note.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.createNote(command);
+
+        verify(noteRepository).insert(any(Note.class));
+        verify(noteRepository, never()).update(any(Note.class));
+        verify(noteRepository, never()).findById(any(NoteId.class));
+    }
+
     @Test
     void createNote_returnsNoteSavedByRepository() {
         CreateNoteCommand command = new CreateNoteCommand("Title", "Content", List.of());
         Note savedNote = Note.create("Title", "Content", List.of());
-        when(noteRepository.save(any(Note.class))).thenReturn(savedNote);
+        when(noteRepository.insert(any(Note.class))).thenReturn(savedNote);
 
         Note result = service.createNote(command);
 
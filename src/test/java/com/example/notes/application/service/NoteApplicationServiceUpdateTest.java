@@ -0,0 +1,101 @@
+package com.example.notes.application.service;
+
+import com.example.notes.application.port.in.UpdateNoteUseCase.UpdateNoteCommand;
+import com.example.notes.application.port.out.NoteRepository;
+import com.example.notes.domain.exception.NoteNotFoundException;
+import com.example.notes.domain.exception.NoteVersionConflictException;
+import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.NoteId;
+import com.example.notes.domain.model.NoteVersion;
+import io.quarkus.test.InjectMock;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@QuarkusTest
+class NoteApplicationServiceUpdateTest {
+
+    @Inject
+    NoteApplicationService service;
+
+    @InjectMock
+    NoteRepository noteRepository;
+
+    @Test
+    void updateNote_withMatchingExpectedVersion_savesNoteAtThatVersion() {
+        Note existing = existingNoteAtVersion(3);
+        when(noteRepository.findById(existing.id())).thenReturn(Optional.of(existing));
+        when(noteRepository.update(any(Note.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Note result = service.updateNote(existing.id().value(), new UpdateNoteCommand("New", "New content", List.of(), 3L));
+
+        assertEquals("New", result.title());
+        assertEquals(3, result.version());
+        verify(noteRepository, never()).lockVersionById(any(NoteId.class));
+    }
+
+    @Test
+    void updateNote_withExpectedVersionBehindCachedNote_savesAtExpectedVersion() {
+        Note cached = existingNoteAtVersion(2);
+        when(noteRepository.findById(cached.id())).thenReturn(Optional.of(cached));
+        when(noteRepository.update(any(Note.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Note result = service.updateNote(cached.id().value(), new UpdateNoteCommand("New", "New content", List.of(), 3L));
+
+        assertEquals(3, result.version());
+    }
+
+    @Test
+    void updateNote_withStaleExpectedVersion_propagatesConflictFromVersionedUpdate() {
+        Note existing = existingNoteAtVersion(4);
+        when(noteRepository.findById(existing.id())).thenReturn(Optional.of(existing));
+        when(noteRepository.update(any(Note.class))).thenThrow(new NoteVersionConflictException(existing.id().value()));
+
+        assertThrows(
+            NoteVersionConflictException.class,
+            () -> service.updateNote(existing.id().value(), new UpdateNoteCommand("New", "New content", List.of(), 3L))
+        );
+
+        verify(noteRepository).update(argThat(note -> note.version() == 3));
+    }
+
+    @Test
+    void updateNote_withoutExpectedVersion_updatesLockedVersion() {
+        Note cached = existingNoteAtVersion(8);
+        when(noteRepository.lockVersionById(cached.id()))
+            .thenReturn(Optional.of(new NoteVersion(9, cached.updatedAt())));
+        when(noteRepository.findById(cached.id())).thenReturn(Optional.of(cached));
+        when(noteRepository.update(any(Note.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Note result = service.updateNote(cached.id().value(), new UpdateNoteCommand("New", "New content", List.of(), null));
+
+        assertEquals(9, result.version());
+    }
+
+    @Test
+    void updateNote_withoutExpectedVersionForMissingNote_throwsNotFound() {
+        NoteId id = NoteId.generate();
+        when(noteRepository.lockVersionById(id)).thenReturn(Optional.empty());
+
+        assertThrows(
+            NoteNotFoundException.class,
+            () -> service.updateNote(id.value(), new UpdateNoteCommand("New", "New content", List.of(), null))
+        );
+
+        verify(noteRepository, never()).update(any(Note.class));
+    }
+
+    private static Note existingNoteAtVersion(long version) {
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(1);
+        return Note.reconstitute(NoteId.generate(), "Title", "Content", createdAt, createdAt, List.of(), version);
+    }
+}
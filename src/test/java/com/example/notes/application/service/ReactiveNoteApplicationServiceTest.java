@@ -0,0 +1,89 @@
+package com.example.notes.application.service;
+
+import com.example.notes.application.port.in.CreateNoteUseCase.CreateNoteCommand;
+import com.example.notes.application.port.in.ListNotesUseCase.ListNotesQuery;
+import com.example.notes.application.port.in.UpdateNoteUseCase.UpdateNoteCommand;
+import com.example.notes.application.port.out.ReactiveNoteRepository;
+import com.example.notes.domain.exception.NoteNotFoundException;
+import com.example.notes.domain.exception.NoteValidationException;
+import com.example.notes.domain.exception.NoteVersionConflictException;
+import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.NoteCursor;
+import com.example.notes.domain.model.NoteId;
+import com.example.notes.domain.model.NotePage;
+import com.example.notes.domain.model.TagFilter;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ReactiveNoteApplicationServiceTest {
+
+    private ReactiveNoteRepository noteRepository;
+    private ReactiveNoteApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        noteRepository = mock(ReactiveNoteRepository.class);
+        service = new ReactiveNoteApplicationService(noteRepository);
+    }
+
+    @Test
+    void createNote_withBlankTitle_failsWithoutInserting() {
+        Uni<Note> result = service.createNote(new CreateNoteCommand(" ", "Content", List.of()));
+
+        assertThrows(NoteValidationException.class, () -> result.await().indefinitely());
+        verify(noteRepository, never()).insert(any(Note.class));
+    }
+
+    @Test
+    void getNote_whenMissing_failsWithNotFound() {
+        UUID id = UUID.randomUUID();
+        when(noteRepository.findById(NoteId.of(id))).thenReturn(Uni.createFrom().nullItem());
+
+        assertThrows(NoteNotFoundException.class, () -> service.getNote(id).await().indefinitely());
+    }
+
+    @Test
+    void listNotes_withMoreNotesThanLimit_returnsCursorToLastNoteOnPage() {
+        List<Note> notes = List.of(noteCreatedAt(3), noteCreatedAt(2), noteCreatedAt(1));
+        when(noteRepository.findPage(null, TagFilter.none(), 3)).thenReturn(Multi.createFrom().iterable(notes));
+
+        NotePage page = service.listNotes(new ListNotesQuery(null, null, 2)).await().indefinitely();
+
+        assertEquals(notes.subList(0, 2), page.notes());
+        assertEquals(NoteCursor.of(notes.get(1)), page.nextCursor());
+    }
+
+    @Test
+    void updateNote_withStaleExpectedVersion_failsWithoutWriting() {
+        Note existing = Note.reconstitute(NoteId.generate(), "Title", "Content", LocalDateTime.now(), LocalDateTime.now(), List.of(), 4);
+        when(noteRepository.findById(existing.id())).thenReturn(Uni.createFrom().item(existing));
+
+        Uni<Note> result = service.updateNote(existing.id().value(), new UpdateNoteCommand("New", "New content", List.of(), 3L));
+
+        assertThrows(NoteVersionConflictException.class, () -> result.await().indefinitely());
+        verify(noteRepository, never()).update(any(Note.class));
+    }
+
+    @Test
+    void deleteNote_whenNothingDeleted_failsWithNotFound() {
+        UUID id = UUID.randomUUID();
+        when(noteRepository.deleteById(NoteId.of(id))).thenReturn(Uni.createFrom().item(false));
+
+        assertThrows(NoteNotFoundException.class, () -> service.deleteNote(id).await().indefinitely());
+    }
+
+    private static Note noteCreatedAt(int minute) {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, minute);
+        return Note.reconstitute(NoteId.generate(), "Title", "Content", createdAt, createdAt, List.of(), 0);
+    }
+}
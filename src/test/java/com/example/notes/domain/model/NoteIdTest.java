@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class NoteIdTest {
 
@@ -21,6 +22,15 @@ class NoteIdTest {
         assertNotEquals(id1, id2);
     }
 
+    @Test
+    void generate_createsTimeOrderedVersion7Ids() {
+        NoteId first = NoteId.generate();
+        NoteId second = NoteId.generate();
+
+        assertEquals(7, first.value().version());
+        assertTrue(second.value().compareTo(first.value()) > 0);
+    }
+
     @Test
     void of_withValidUuid_createsNoteId() {
         UUID uuid = UUID.randomUUID();
@@ -0,0 +1,24 @@
+package com.example.notes.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class NoteSummaryTest {
+
+    @Test
+    void contentLengthOf_countsUtf8Bytes() {
+        for (String content : new String[] {"", "Short", "Grüße", "日本語", "🎉 party", "a߿bࠀc"}) {
+            assertEquals(content.getBytes(StandardCharsets.UTF_8).length, NoteSummary.contentLengthOf(content));
+        }
+    }
+
+    @Test
+    void snippetOf_collapsesWhitespace() {
+        assertEquals("First line second line", NoteSummary.snippetOf("  First line\n\tsecond   line \n"));
+        assertNull(NoteSummary.snippetOf(null));
+    }
+}
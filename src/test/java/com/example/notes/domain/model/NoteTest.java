@@ -3,6 +3,7 @@ package com.example.notes.domain.model;
 import com.example.notes.domain.exception.NoteValidationException;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -32,6 +33,22 @@ class NoteTest {
         assertTrue(note.tags().isEmpty());
     }
 
+    @Test
+    void createNote_startsAtVersionZero() {
+        Note note = Note.create("Test Title", "Test Content", List.of());
+
+        assertEquals(0, note.version());
+    }
+
+    @Test
+    void update_keepsVersionItWasReadAt() {
+        Note note = Note.reconstitute(NoteId.generate(), "Title", "Content", LocalDateTime.now(), LocalDateTime.now(), List.of(), 7);
+
+        Note updated = note.update("New Title", "New Content", List.of());
+
+        assertEquals(7, updated.version());
+    }
+
     @Test
     void createNote_withNullTitle_throwsValidationException() {
         NoteValidationException exception = assertThrows(
@@ -0,0 +1,56 @@
+package com.example.notes.domain.model;
+
+import com.example.notes.domain.exception.NoteValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TagFilterTest {
+
+    @Test
+    void none_isEmpty() {
+        assertTrue(TagFilter.none().isEmpty());
+    }
+
+    @Test
+    void constructor_withNullTags_createsEmptyFilter() {
+        TagFilter filter = new TagFilter(null, TagFilter.Match.ANY);
+
+        assertTrue(filter.isEmpty());
+        assertEquals(TagFilter.Match.ANY, filter.match());
+    }
+
+    @Test
+    void constructor_withBlankTag_throwsValidationException() {
+        assertThrows(NoteValidationException.class, () -> new TagFilter(Set.of("work", " "), TagFilter.Match.ALL));
+    }
+
+    @Test
+    void constructor_withNullTag_throwsValidationException() {
+        Set<String> tags = new HashSet<>();
+        tags.add(null);
+
+        assertThrows(NoteValidationException.class, () -> new TagFilter(tags, TagFilter.Match.ALL));
+    }
+
+    @Test
+    void constructor_withTooManyTags_throwsValidationException() {
+        Set<String> tags = IntStream.rangeClosed(0, TagFilter.MAX_TAGS)
+                .mapToObj(i -> "tag" + i)
+                .collect(Collectors.toSet());
+
+        assertThrows(NoteValidationException.class, () -> new TagFilter(tags, TagFilter.Match.ALL));
+    }
+
+    @Test
+    void constructor_withNullMatch_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TagFilter(Set.of("work"), null));
+    }
+}
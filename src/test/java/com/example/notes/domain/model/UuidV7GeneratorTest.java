@@ -0,0 +1,83 @@
+package com.example.notes.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void next_setsVersionVariantAndTimestamp() {
+        UuidV7Generator generator = new UuidV7Generator(() -> 1_700_000_000_123L, new Random(1));
+
+        UUID uuid = generator.next();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertEquals(1_700_000_000_123L, uuid.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void next_withinSameMillisecond_isStrictlyIncreasing() {
+        UuidV7Generator generator = new UuidV7Generator(() -> 1_700_000_000_000L, new Random(1));
+
+        assertStrictlyIncreasing(generate(generator, 10_000));
+    }
+
+    @Test
+    void next_whenClockMovesBackwards_staysIncreasing() {
+        AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+        UuidV7Generator generator = new UuidV7Generator(clock::get, new Random(1));
+
+        UUID before = generator.next();
+        clock.addAndGet(-5_000);
+        UUID after = generator.next();
+
+        assertTrue(after.compareTo(before) > 0);
+    }
+
+    @Test
+    void next_fromManyThreads_neverRepeats() throws Exception {
+        UuidV7Generator generator = new UuidV7Generator();
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> ids.addAll(generate(generator, 5_000))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(40_000, ids.size());
+    }
+
+    private static List<UUID> generate(UuidV7Generator generator, int count) {
+        List<UUID> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(generator.next());
+        }
+        return ids;
+    }
+
+    private static void assertStrictlyIncreasing(List<UUID> ids) {
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i).compareTo(ids.get(i - 1)) > 0, "id " + i + " is not greater than its predecessor");
+        }
+    }
+}
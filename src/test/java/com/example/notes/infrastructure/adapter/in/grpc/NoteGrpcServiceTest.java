@@ -0,0 +1,161 @@
+package com.example.notes.infrastructure.adapter.in.grpc;
+
+import com.example.notes.infrastructure.adapter.in.grpc.proto.NoteService;
+import com.example.notes.infrastructure.adapter.in.grpc.proto.NoteServiceProto.CreateNoteResult;
+import com.example.notes.infrastructure.adapter.in.grpc.proto.NoteServiceProto.DeleteNoteRequest;
+import com.example.notes.infrastructure.adapter.in.grpc.proto.NoteServiceProto.GetNoteRequest;
+import com.example.notes.infrastructure.adapter.in.grpc.proto.NoteServiceProto.ListNotesRequest;
+import com.example.notes.infrastructure.adapter.in.grpc.proto.NoteServiceProto.NoteUpdate;
+import com.example.notes.infrastructure.adapter.in.proto.NoteMessages;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.quarkus.grpc.GrpcClient;
+import io.quarkus.test.junit.QuarkusTest;
+import io.smallrye.mutiny.Multi;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+public class NoteGrpcServiceTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @GrpcClient("notes")
+    NoteService client;
+
+    private NoteMessages.Note createNote(String title, String... tags) {
+        return client.createNote(createRequest(title, tags)).await().atMost(TIMEOUT);
+    }
+
+    private static NoteMessages.CreateNoteRequest createRequest(String title, String... tags) {
+        return NoteMessages.CreateNoteRequest.newBuilder()
+                .setTitle(title)
+                .setContent("Content of " + title)
+                .addAllTags(List.of(tags))
+                .build();
+    }
+
+    private static Status.Code statusOf(Throwable failure) {
+        return assertInstanceOf(StatusRuntimeException.class, failure).getStatus().getCode();
+    }
+
+    @Test
+    public void testCreateAndGetNote() {
+        NoteMessages.Note created = createNote("gRPC note", "grpc");
+
+        NoteMessages.Note note = client.getNote(GetNoteRequest.newBuilder().setId(created.getId()).build())
+                .await().atMost(TIMEOUT);
+
+        assertEquals("gRPC note", note.getTitle());
+        assertEquals("Content of gRPC note", note.getContent());
+        assertEquals(List.of("grpc"), note.getTagsList());
+        assertTrue(note.getCreatedAt() > 0);
+    }
+
+    @Test
+    public void testGetMissingNote_returnsNotFound() {
+        GetNoteRequest request = GetNoteRequest.newBuilder().setId(UUID.randomUUID().toString()).build();
+
+        Throwable failure = assertThrows(StatusRuntimeException.class,
+                () -> client.getNote(request).await().atMost(TIMEOUT));
+
+        assertEquals(Status.Code.NOT_FOUND, statusOf(failure));
+    }
+
+    @Test
+    public void testCreateNoteWithoutTitle_returnsInvalidArgument() {
+        Throwable failure = assertThrows(StatusRuntimeException.class,
+                () -> client.createNote(NoteMessages.CreateNoteRequest.newBuilder().setContent("No title").build())
+                        .await().atMost(TIMEOUT));
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, statusOf(failure));
+    }
+
+    @Test
+    public void testUpdateNoteChecksExpectedVersion() {
+        NoteMessages.Note created = createNote("Before update");
+        NoteMessages.UpdateNoteRequest changes = NoteMessages.UpdateNoteRequest.newBuilder()
+                .setTitle("After update")
+                .setContent("Updated content")
+                .build();
+
+        NoteMessages.Note updated = client.updateNote(NoteUpdate.newBuilder()
+                        .setId(created.getId())
+                        .setNote(changes)
+                        .setExpectedVersion(created.getVersion())
+                        .build())
+                .await().atMost(TIMEOUT);
+        assertEquals("After update", updated.getTitle());
+        assertTrue(updated.getVersion() > created.getVersion());
+
+        Throwable failure = assertThrows(StatusRuntimeException.class,
+                () -> client.updateNote(NoteUpdate.newBuilder()
+                                .setId(created.getId())
+                                .setNote(changes)
+                                .setExpectedVersion(created.getVersion())
+                                .build())
+                        .await().atMost(TIMEOUT));
+        assertEquals(Status.Code.FAILED_PRECONDITION, statusOf(failure));
+    }
+
+    @Test
+    public void testDeleteNote() {
+        NoteMessages.Note created = createNote("To delete");
+
+        client.deleteNote(DeleteNoteRequest.newBuilder().setId(created.getId()).build()).await().atMost(TIMEOUT);
+
+        Throwable failure = assertThrows(StatusRuntimeException.class,
+                () -> client.getNote(GetNoteRequest.newBuilder().setId(created.getId()).build()).await().atMost(TIMEOUT));
+        assertEquals(Status.Code.NOT_FOUND, statusOf(failure));
+    }
+
+    @Test
+    public void testListNotesStopsAtLimit() {
+        createNote("Streamed 1");
+        createNote("Streamed 2");
+        createNote("Streamed 3");
+
+        List<NoteMessages.Note> notes = client.listNotes(ListNotesRequest.newBuilder().setLimit(2).build())
+                .collect().asList()
+                .await().atMost(TIMEOUT);
+
+        assertEquals(2, notes.size());
+        assertNotEquals(notes.get(0).getId(), notes.get(1).getId());
+    }
+
+    @Test
+    public void testListNotesWithoutLimitStreamsEveryNote() {
+        for (int i = 0; i < 3; i++) {
+            createNote("Complete stream " + i);
+        }
+
+        List<NoteMessages.Note> notes = client.listNotes(ListNotesRequest.getDefaultInstance())
+                .collect().asList()
+                .await().atMost(TIMEOUT);
+
+        assertTrue(notes.size() >= 3);
+        assertEquals(notes.size(), notes.stream().map(NoteMessages.Note::getId).distinct().count());
+    }
+
+    @Test
+    public void testCreateNotesStreamReportsEachResultInOrder() {
+        Multi<NoteMessages.CreateNoteRequest> requests = Multi.createFrom().items(
+                createRequest("Batched 1"),
+                NoteMessages.CreateNoteRequest.newBuilder().setTitle("Batched without content").build(),
+                createRequest("Batched 3"));
+
+        List<CreateNoteResult> results = client.createNotes(requests)
+                .collect().asList()
+                .await().atMost(TIMEOUT);
+
+        assertEquals(3, results.size());
+        assertEquals("Batched 1", results.get(0).getNote().getTitle());
+        assertEquals(CreateNoteResult.ResultCase.ERROR, results.get(1).getResultCase());
+        assertEquals("Batched 3", results.get(2).getNote().getTitle());
+    }
+}
@@ -0,0 +1,259 @@
+package com.example.notes.infrastructure.adapter.in.rest;
+
+import com.example.notes.infrastructure.adapter.in.proto.NoteMessages;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+public class BinaryRepresentationTest {
+
+    private String createNote(String title) {
+        return given()
+            .contentType(ContentType.JSON)
+            .body("{\"title\": \"" + title + "\", \"content\": \"Binary body\", \"tags\": [\"wire\"]}")
+        .when()
+            .post("/v1/notes")
+        .then()
+            .statusCode(201)
+            .extract()
+            .path("id");
+    }
+
+    @Test
+    public void testCreateNoteFromCbor() throws IOException {
+        byte[] body = new CBORMapper().writeValueAsBytes(
+                Map.of("title", "From CBOR", "content", "Binary body", "tags", List.of("wire")));
+
+        String noteId = given()
+            .contentType(BinaryMediaType.APPLICATION_CBOR)
+            .body(body)
+        .when()
+            .post("/v1/notes")
+        .then()
+            .statusCode(201)
+            .contentType(ContentType.JSON)
+            .body("title", is("From CBOR"))
+            .extract()
+            .path("id");
+
+        given().when().get("/v1/notes/" + noteId).then().statusCode(200).body("tags[0]", is("wire"));
+    }
+
+    @Test
+    public void testGetNoteAsSmile() throws IOException {
+        String noteId = createNote("As Smile");
+
+        byte[] body = given()
+            .accept(BinaryMediaType.APPLICATION_SMILE)
+        .when()
+            .get("/v1/notes/" + noteId)
+        .then()
+            .statusCode(200)
+            .contentType(BinaryMediaType.APPLICATION_SMILE)
+            .header("Vary", containsString("Accept"))
+            .extract()
+            .asByteArray();
+
+        JsonNode note = new SmileMapper().readTree(body);
+        assertEquals(noteId, note.get("id").asText());
+        assertEquals("As Smile", note.get("title").asText());
+        assertTrue(note.get("createdAt").isTextual());
+    }
+
+    @Test
+    public void testEachRepresentationHasItsOwnEntityTag() {
+        String noteId = createNote("Tagged per representation");
+        String jsonTag = given().accept(ContentType.JSON).when().get("/v1/notes/" + noteId).then().extract().header("ETag");
+        String cborTag = given().accept(BinaryMediaType.APPLICATION_CBOR).when().get("/v1/notes/" + noteId).then().extract().header("ETag");
+
+        assertNotEquals(jsonTag, cborTag);
+        given()
+            .accept(BinaryMediaType.APPLICATION_CBOR)
+            .header("If-None-Match", jsonTag)
+        .when()
+            .get("/v1/notes/" + noteId)
+        .then()
+            .statusCode(200)
+            .contentType(BinaryMediaType.APPLICATION_CBOR)
+            .header("ETag", is(cborTag));
+        given()
+            .accept(BinaryMediaType.APPLICATION_CBOR)
+            .header("If-None-Match", cborTag)
+        .when()
+            .get("/v1/notes/" + noteId)
+        .then()
+            .statusCode(304);
+    }
+
+    @Test
+    public void testUpdateNoteWithEntityTagOfAnotherRepresentation() {
+        String noteId = createNote("Updated after a CBOR read");
+        String cborTag = given().accept(BinaryMediaType.APPLICATION_CBOR).when().get("/v1/notes/" + noteId).then().extract().header("ETag");
+
+        given()
+            .contentType(ContentType.JSON)
+            .header("If-Match", cborTag)
+            .body("{\"title\": \"Changed\", \"content\": \"Binary body\", \"tags\": []}")
+        .when()
+            .put("/v1/notes/" + noteId)
+        .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("title", is("Changed"));
+    }
+
+    @Test
+    public void testListNotesAsCbor() throws IOException {
+        createNote("Listed as CBOR");
+
+        byte[] body = given()
+            .accept(BinaryMediaType.APPLICATION_CBOR)
+            .queryParam("limit", 1)
+        .when()
+            .get("/v1/notes")
+        .then()
+            .statusCode(200)
+            .contentType(BinaryMediaType.APPLICATION_CBOR)
+            .extract()
+            .asByteArray();
+
+        JsonNode notes = new CBORMapper().readTree(body);
+        assertTrue(notes.isArray());
+        assertEquals(1, notes.size());
+    }
+
+    @Test
+    public void testCreateAndUpdateNoteWithProtobuf() throws IOException {
+        byte[] created = given()
+            .contentType(BinaryMediaType.APPLICATION_PROTOBUF)
+            .accept(BinaryMediaType.APPLICATION_PROTOBUF)
+            .body(NoteMessages.CreateNoteRequest.newBuilder()
+                .setTitle("From protobuf")
+                .setContent("Binary body")
+                .addAllTags(List.of("wire", "proto"))
+                .build()
+                .toByteArray())
+        .when()
+            .post("/v1/notes")
+        .then()
+            .statusCode(201)
+            .contentType(BinaryMediaType.APPLICATION_PROTOBUF)
+            .extract()
+            .asByteArray();
+
+        NoteMessages.Note note = NoteMessages.Note.parseFrom(created);
+        assertEquals("From protobuf", note.getTitle());
+        assertEquals(List.of("wire", "proto"), note.getTagsList());
+        assertTrue(note.getCreatedAt() > 0);
+
+        given()
+            .contentType(BinaryMediaType.APPLICATION_PROTOBUF)
+            .body(NoteMessages.UpdateNoteRequest.newBuilder().setTitle("Updated").setContent("New body").build().toByteArray())
+        .when()
+            .put("/v1/notes/" + note.getId())
+        .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("title", is("Updated"))
+            .body("content", is("New body"));
+    }
+
+    @Test
+    public void testListNotesAsProtobuf() throws IOException {
+        createNote("Listed as protobuf");
+
+        byte[] body = given()
+            .accept(BinaryMediaType.APPLICATION_PROTOBUF)
+            .queryParam("limit", 2)
+        .when()
+            .get("/v1/notes")
+        .then()
+            .statusCode(200)
+            .contentType(BinaryMediaType.APPLICATION_PROTOBUF)
+            .extract()
+            .asByteArray();
+
+        List<NoteMessages.Note> notes = NoteMessages.NoteList.parseFrom(body).getNotesList();
+        assertFalse(notes.isEmpty());
+        assertTrue(notes.size() <= 2);
+        assertFalse(notes.get(0).getContent().isEmpty());
+    }
+
+    @Test
+    public void testSparseFieldsetAsProtobuf() throws IOException {
+        String noteId = createNote("Sparse protobuf");
+
+        byte[] body = given()
+            .accept(BinaryMediaType.APPLICATION_PROTOBUF)
+            .queryParam("fields", "title")
+        .when()
+            .get("/v1/notes/" + noteId)
+        .then()
+            .statusCode(200)
+            .extract()
+            .asByteArray();
+
+        NoteMessages.Note note = NoteMessages.Note.parseFrom(body);
+        assertEquals(noteId, note.getId());
+        assertEquals("Sparse protobuf", note.getTitle());
+        assertEquals("", note.getContent());
+        assertEquals(0L, note.getCreatedAt());
+    }
+
+    @Test
+    public void testNotFoundAsProtobuf() {
+        given()
+            .accept(BinaryMediaType.APPLICATION_PROTOBUF)
+        .when()
+            .get("/v1/notes/00000000-0000-0000-0000-000000000000")
+        .then()
+            .statusCode(404)
+            .contentType(BinaryMediaType.APPLICATION_PROTOBUF);
+    }
+
+    @Test
+    public void testProtobufWithoutTitle_returnsBadRequest() {
+        given()
+            .contentType(BinaryMediaType.APPLICATION_PROTOBUF)
+            .body(NoteMessages.CreateNoteRequest.newBuilder().setContent("Binary body").build().toByteArray())
+        .when()
+            .post("/v1/notes")
+        .then()
+            .statusCode(400);
+    }
+
+    @Test
+    public void testMalformedProtobuf_returnsBadRequest() {
+        given()
+            .contentType(BinaryMediaType.APPLICATION_PROTOBUF)
+            .body(new byte[] {0x0a, 0x7f, 0x41})
+        .when()
+            .post("/v1/notes")
+        .then()
+            .statusCode(400);
+    }
+
+    @Test
+    public void testSummaryViewAsProtobuf_returnsNotAcceptable() {
+        given()
+            .accept(BinaryMediaType.APPLICATION_PROTOBUF)
+            .queryParam("view", "summary")
+        .when()
+            .get("/v1/notes")
+        .then()
+            .statusCode(406);
+    }
+}
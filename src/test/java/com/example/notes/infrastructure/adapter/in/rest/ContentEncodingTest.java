@@ -0,0 +1,30 @@
+package com.example.notes.infrastructure.adapter.in.rest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentEncodingTest {
+
+    @Test
+    void negotiate_prefersGzipOnEqualQuality() {
+        assertEquals(ContentEncoding.GZIP, ContentEncoding.negotiate("deflate, gzip, br"));
+    }
+
+    @Test
+    void negotiate_picksHighestQuality() {
+        assertEquals(ContentEncoding.DEFLATE, ContentEncoding.negotiate("gzip;q=0.2, deflate;q=0.8"));
+    }
+
+    @Test
+    void negotiate_wildcardCoversUnnamedCodings() {
+        assertEquals(ContentEncoding.DEFLATE, ContentEncoding.negotiate("gzip;q=0, *"));
+    }
+
+    @Test
+    void negotiate_withNothingAcceptable_returnsNull() {
+        assertNull(ContentEncoding.negotiate(null));
+        assertNull(ContentEncoding.negotiate("identity"));
+        assertNull(ContentEncoding.negotiate("br, *;q=0"));
+    }
+}
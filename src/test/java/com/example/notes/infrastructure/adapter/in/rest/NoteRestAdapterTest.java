@@ -2,14 +2,23 @@ package com.example.notes.infrastructure.adapter.in.rest;
 
 import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.http.ContentType;
+import io.restassured.response.Response;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @QuarkusTest
 public class NoteRestAdapterTest {
@@ -251,6 +260,96 @@ public class NoteRestAdapterTest {
             .statusCode(404);
     }
 
+    @Test
+    public void testGetNoteReturnsEntityTagAndLastModified() {
+        String noteId = createNoteAndGetId();
+
+        given()
+        .when()
+            .get("/v1/notes/" + noteId)
+        .then()
+            .statusCode(200)
+            .header("ETag", notNullValue())
+            .header("Last-Modified", notNullValue());
+    }
+
+    @Test
+    public void testGetNoteWithMatchingIfNoneMatchReturns304() {
+        String noteId = createNoteAndGetId();
+        String etag = given()
+        .when()
+            .get("/v1/notes/" + noteId)
+        .then()
+            .statusCode(200)
+            .extract()
+            .header("ETag");
+
+        given()
+            .header("If-None-Match", etag)
+        .when()
+            .get("/v1/notes/" + noteId)
+        .then()
+            .statusCode(304)
+            .header("ETag", is(etag));
+    }
+
+    @Test
+    public void testGetNoteWithIfModifiedSinceAtLastModifiedReturns304() {
+        String noteId = createNoteAndGetId();
+        String lastModified = given()
+        .when()
+            .get("/v1/notes/" + noteId)
+        .then()
+            .statusCode(200)
+            .extract()
+            .header("Last-Modified");
+
+        given()
+            .header("If-Modified-Since", lastModified)
+        .when()
+            .get("/v1/notes/" + noteId)
+        .then()
+            .statusCode(304);
+    }
+
+    @Test
+    public void testGetNoteWithStaleIfNoneMatchReturnsFullBody() {
+        String noteId = createNoteAndGetId();
+        String etag = given()
+        .when()
+            .get("/v1/notes/" + noteId)
+        .then()
+            .extract()
+            .header("ETag");
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"title\": \"Changed\", \"content\": \"Changed\", \"tags\": []}")
+        .when()
+            .put("/v1/notes/" + noteId)
+        .then()
+            .statusCode(200);
+
+        given()
+            .header("If-None-Match", etag)
+        .when()
+            .get("/v1/notes/" + noteId)
+        .then()
+            .statusCode(200)
+            .body("title", is("Changed"))
+            .header("ETag", not(etag));
+    }
+
+    @Test
+    public void testConditionalGetOfNonExistentNoteReturns404() {
+        given()
+            .header("If-None-Match", "\"anything\"")
+        .when()
+            .get("/v1/notes/" + UUID.randomUUID())
+        .then()
+            .statusCode(404);
+    }
+
     // List all notes tests
     @Test
     public void testListNotesReturnsEmptyListWhenNoNotes() {
@@ -276,6 +375,267 @@ public class NoteRestAdapterTest {
             .body("id", hasItem(noteId));
     }
 
+    @Test
+    public void testListNotesRespectsLimitAndLinksNextPage() {
+        createNoteAndGetId();
+        createNoteAndGetId();
+
+        given()
+        .when()
+            .get("/v1/notes?limit=1")
+        .then()
+            .statusCode(200)
+            .body("size()", is(1))
+            .header("Link", containsString("rel=\"next\""))
+            .header("Link", containsString("cursor="));
+    }
+
+    @Test
+    public void testListNotesFollowingNextLinkReturnsFollowingNotes() {
+        createNoteAndGetId();
+        createNoteAndGetId();
+        createNoteAndGetId();
+
+        Response firstPage = given()
+        .when()
+            .get("/v1/notes?limit=2")
+        .then()
+            .statusCode(200)
+            .extract()
+            .response();
+        List<String> firstIds = firstPage.path("id");
+        String nextUri = firstPage.header("Link").replaceAll("^<([^>]+)>.*$", "$1");
+
+        List<String> secondIds = given()
+        .when()
+            .get(nextUri)
+        .then()
+            .statusCode(200)
+            .extract()
+            .path("id");
+
+        assertFalse(secondIds.isEmpty());
+        secondIds.forEach(id -> assertFalse(firstIds.contains(id)));
+    }
+
+    @Test
+    public void testListNotesWithLimitOutOfRangeReturnsBadRequest() {
+        given()
+        .when()
+            .get("/v1/notes?limit=0")
+        .then()
+            .statusCode(400);
+
+        given()
+        .when()
+            .get("/v1/notes?limit=201")
+        .then()
+            .statusCode(400);
+    }
+
+    @Test
+    public void testListNotesWithInvalidCursorReturnsBadRequest() {
+        given()
+        .when()
+            .get("/v1/notes?cursor=not-a-cursor")
+        .then()
+            .statusCode(400);
+    }
+
+    @Test
+    public void testListNotesStreamsNdjsonWhenRequested() {
+        String noteId = createNoteAndGetId();
+
+        String body = given()
+            .accept("application/x-ndjson")
+        .when()
+            .get("/v1/notes")
+        .then()
+            .statusCode(200)
+            .contentType(containsString("application/x-ndjson"))
+            .extract()
+            .asString();
+
+        List<String> lines = body.lines().toList();
+        assertFalse(lines.isEmpty());
+        lines.forEach(line -> assertTrue(line.startsWith("{") && line.endsWith("}")));
+        assertTrue(lines.stream().anyMatch(line -> line.contains("\"id\":\"" + noteId + "\"")));
+    }
+
+    @Test
+    public void testListNotesNdjsonWithFieldsReturnsBadRequest() {
+        given()
+            .accept("application/x-ndjson")
+        .when()
+            .get("/v1/notes?fields=id,title")
+        .then()
+            .statusCode(400);
+    }
+
+    @Test
+    public void testListNotesNdjsonWithSummaryViewReturnsBadRequest() {
+        given()
+            .accept("application/x-ndjson")
+        .when()
+            .get("/v1/notes?view=summary")
+        .then()
+            .statusCode(400);
+    }
+
+    @Test
+    public void testListNotesWithInvalidTagMatchReturnsBadRequest() {
+        given()
+        .when()
+            .get("/v1/notes?tag=work&tagMatch=some")
+        .then()
+            .statusCode(400)
+            .body("violations.message", hasItem("tagMatch must be 'all' or 'any'"));
+    }
+
+    @Test
+    public void testListNotesWithBlankTagReturnsBadRequest() {
+        given()
+        .when()
+            .get("/v1/notes?tag=")
+        .then()
+            .statusCode(400)
+            .body("message", is("Tag filter values must not be blank"));
+    }
+
+    @Test
+    public void testListNoteSummariesReturnsSnippetAndLengthWithoutContent() {
+        String noteId = given()
+            .contentType(ContentType.JSON)
+            .body("{\"title\": \"Summary\", \"content\": \"  Line one\\n  line two \", \"tags\": [\"summary\"]}")
+        .when()
+            .post("/v1/notes")
+        .then()
+            .statusCode(201)
+            .extract()
+            .path("id");
+
+        given()
+        .when()
+            .get("/v1/notes?view=summary")
+        .then()
+            .statusCode(200)
+            .body("find { it.id == '" + noteId + "' }.title", is("Summary"))
+            .body("find { it.id == '" + noteId + "' }.snippet", is("Line one line two"))
+            .body("find { it.id == '" + noteId + "' }.contentLength", is(22))
+            .body("find { it.id == '" + noteId + "' }.tags", hasItem("summary"))
+            .body("find { it.id == '" + noteId + "' }", not(org.hamcrest.Matchers.hasKey("content")));
+    }
+
+    @Test
+    public void testListNoteSummariesLinksNextPage() {
+        createNoteAndGetId();
+        createNoteAndGetId();
+
+        given()
+        .when()
+            .get("/v1/notes?view=summary&limit=1")
+        .then()
+            .statusCode(200)
+            .body("size()", is(1))
+            .header("Link", containsString("view=summary"))
+            .header("Link", containsString("cursor="));
+    }
+
+    @Test
+    public void testListNotesWithUnknownViewReturnsBadRequest() {
+        given()
+        .when()
+            .get("/v1/notes?view=compact")
+        .then()
+            .statusCode(400);
+    }
+
+    @Test
+    public void testGetNoteWithFieldsReturnsOnlyRequestedFieldsAndId() {
+        String noteId = createNoteAndGetId();
+
+        given()
+        .when()
+            .get("/v1/notes/" + noteId + "?fields=updatedAt,tags")
+        .then()
+            .statusCode(200)
+            .header("ETag", notNullValue())
+            .body("id", is(noteId))
+            .body("updatedAt", notNullValue())
+            .body("tags.size()", is(0))
+            .body("$", not(org.hamcrest.Matchers.hasKey("title")))
+            .body("$", not(org.hamcrest.Matchers.hasKey("content")))
+            .body("$", not(org.hamcrest.Matchers.hasKey("createdAt")));
+    }
+
+    @Test
+    public void testGetNoteWithContentFieldReturnsContent() {
+        String noteId = createNoteAndGetId();
+
+        given()
+        .when()
+            .get("/v1/notes/" + noteId + "?fields=title,content")
+        .then()
+            .statusCode(200)
+            .body("title", is("Test"))
+            .body("content", is("Content"));
+    }
+
+    @Test
+    public void testGetNonExistentNoteWithFieldsReturns404() {
+        given()
+        .when()
+            .get("/v1/notes/" + UUID.randomUUID() + "?fields=id")
+        .then()
+            .statusCode(404);
+    }
+
+    @Test
+    public void testListNotesWithFieldsReturnsOnlyRequestedFieldsAndLinksNextPage() {
+        createNoteAndGetId();
+        createNoteAndGetId();
+
+        given()
+        .when()
+            .get("/v1/notes?fields=id,updatedAt&limit=1")
+        .then()
+            .statusCode(200)
+            .body("size()", is(1))
+            .body("[0].id", notNullValue())
+            .body("[0].updatedAt", notNullValue())
+            .body("[0]", not(org.hamcrest.Matchers.hasKey("content")))
+            .header("Link", containsString("fields=id"));
+    }
+
+    @Test
+    public void testListNotesWithUnknownFieldReturnsBadRequest() {
+        given()
+        .when()
+            .get("/v1/notes?fields=id,body")
+        .then()
+            .statusCode(400);
+    }
+
+    @Test
+    public void testListNotesWithFieldsAndSummaryViewReturnsBadRequest() {
+        given()
+        .when()
+            .get("/v1/notes?fields=id&view=summary")
+        .then()
+            .statusCode(400);
+    }
+
+    // Search tests
+    @Test
+    public void testSearchNotesWithoutQueryReturnsBadRequest() {
+        given()
+        .when()
+            .get("/v1/notes/search")
+        .then()
+            .statusCode(400)
+            .body("violations.message", hasItem("Search text is required"));
+    }
+
     // Update note tests
     @Test
     public void testUpdateNoteReturns200() {
@@ -296,6 +656,72 @@ public class NoteRestAdapterTest {
             .body("tags", hasItem("updated"));
     }
 
+    @Test
+    public void testUpdateNoteWithCurrentIfMatchReturns200AndNewEntityTag() {
+        String noteId = createNoteAndGetId();
+        String etag = given()
+        .when()
+            .get("/v1/notes/" + noteId)
+        .then()
+            .extract()
+            .header("ETag");
+
+        given()
+            .contentType(ContentType.JSON)
+            .header("If-Match", etag)
+            .body("{\"title\": \"Updated Title\", \"content\": \"Updated Content\", \"tags\": []}")
+        .when()
+            .put("/v1/notes/" + noteId)
+        .then()
+            .statusCode(200)
+            .header("ETag", not(etag));
+    }
+
+    @Test
+    public void testUpdateNoteWithStaleIfMatchReturns412() {
+        String noteId = createNoteAndGetId();
+        String etag = given()
+        .when()
+            .get("/v1/notes/" + noteId)
+        .then()
+            .extract()
+            .header("ETag");
+        String updateBody = "{\"title\": \"Updated Title\", \"content\": \"Updated Content\", \"tags\": []}";
+
+        given()
+            .contentType(ContentType.JSON)
+            .header("If-Match", etag)
+            .body(updateBody)
+        .when()
+            .put("/v1/notes/" + noteId)
+        .then()
+            .statusCode(200);
+
+        given()
+            .contentType(ContentType.JSON)
+            .header("If-Match", etag)
+            .body(updateBody)
+        .when()
+            .put("/v1/notes/" + noteId)
+        .then()
+            .statusCode(412)
+            .body("message", is("Note was modified concurrently with id: " + noteId));
+    }
+
+    @Test
+    public void testUpdateNoteWithUnrecognizedIfMatchReturns412() {
+        String noteId = createNoteAndGetId();
+
+        given()
+            .contentType(ContentType.JSON)
+            .header("If-Match", "\"something-else\"")
+            .body("{\"title\": \"Updated Title\", \"content\": \"Updated Content\", \"tags\": []}")
+        .when()
+            .put("/v1/notes/" + noteId)
+        .then()
+            .statusCode(412);
+    }
+
     @Test
     public void testUpdateNonExistentNoteReturns404() {
         UUID nonExistentId = UUID.randomUUID();
@@ -398,4 +824,225 @@ public class NoteRestAdapterTest {
             .statusCode(200)
             .body("createdAt", is(originalCreatedAt));
     }
+
+    @Test
+    public void testCreateNotesBatchReturnsResultPerItem() {
+        String requestBody = "{\"notes\": ["
+            + "{\"title\": \"First\", \"content\": \"Content\", \"tags\": [\"import\"]},"
+            + "{\"title\": \"\", \"content\": \"Content\", \"tags\": []},"
+            + "{\"title\": \"Third\", \"content\": \"Content\"}"
+            + "]}";
+
+        // REST Assured would otherwise send the colon as %3A, which does not match the resource path.
+        String firstId = given()
+            .urlEncodingEnabled(false)
+            .contentType(ContentType.JSON)
+            .body(requestBody)
+        .when()
+            .post("/v1/notes:batch")
+        .then()
+            .statusCode(200)
+            .body("created", is(2))
+            .body("rejected", is(1))
+            .body("results[0].index", is(0))
+            .body("results[0].status", is(201))
+            .body("results[0].note.title", is("First"))
+            .body("results[1].status", is(400))
+            .body("results[1].error", is("Title is required"))
+            .body("results[2].note.tags", is(List.of()))
+            .extract()
+            .path("results[0].note.id");
+
+        given()
+        .when()
+            .get("/v1/notes/" + firstId)
+        .then()
+            .statusCode(200)
+            .body("title", is("First"));
+    }
+
+    @Test
+    public void testCreateNotesBatchWithoutNotesReturnsBadRequest() {
+        given()
+            .urlEncodingEnabled(false)
+            .contentType(ContentType.JSON)
+            .body("{\"notes\": []}")
+        .when()
+            .post("/v1/notes:batch")
+        .then()
+            .statusCode(400)
+            .body("violations.message", hasItem("At least one note is required"));
+    }
+
+    @Test
+    public void testMetricsEndpointExposesUseCaseRepositoryAndFailureMetrics() {
+        String noteId = createNoteAndGetId();
+        given().when().get("/v1/notes/" + noteId).then().statusCode(200);
+        given().when().get("/v1/notes/" + UUID.randomUUID()).then().statusCode(404);
+        given().when().get("/v1/notes?limit=5").then().statusCode(200);
+
+        given()
+        .when()
+            .get("/q/metrics")
+        .then()
+            .statusCode(200)
+            .body(containsString("notes_usecase_seconds_bucket"))
+            .body(containsString("operation=\"get\""))
+            .body(containsString("notes_repository_seconds_count"))
+            .body(containsString("method=\"findPage\""))
+            .body(containsString("notes_failures_total{type=\"not_found\"}"))
+            .body(containsString("notes_list_size_count"))
+            .body(containsString("notes_list_content_bytes_count"));
+    }
+
+    @Test
+    public void testBeanValidationRejectionCountsAsValidationFailure() {
+        double before = validationFailures();
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"content\": \"Content\", \"tags\": []}")
+        .when()
+            .post("/v1/notes")
+        .then()
+            .statusCode(400)
+            .body("violations", notNullValue());
+
+        assertEquals(before + 1, validationFailures());
+    }
+
+    private double validationFailures() {
+        String metrics = given().when().get("/q/metrics").then().statusCode(200).extract().asString();
+        Matcher matcher = Pattern.compile("notes_failures_total\\{type=\"validation\"} (\\S+)").matcher(metrics);
+        return matcher.find() ? Double.parseDouble(matcher.group(1)) : 0;
+    }
+
+    // SQL statement budgets
+    @Test
+    public void testCreateNoteIsASingleInsert() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"title\": \"Test\", \"content\": \"Content\", \"tags\": []}")
+        .when()
+            .post("/v1/notes")
+        .then()
+            .statusCode(201)
+            .spec(SqlStatementBudget.statementsAndRows(1, 0));
+    }
+
+    @Test
+    public void testGetNoteIsASingleSelectAndThenServedFromCache() {
+        String noteId = createNoteAndGetId();
+
+        given()
+        .when()
+            .get("/v1/notes/" + noteId)
+        .then()
+            .statusCode(200)
+            .spec(SqlStatementBudget.statementsAndRows(1, 1));
+
+        given()
+        .when()
+            .get("/v1/notes/" + noteId)
+        .then()
+            .statusCode(200)
+            .spec(SqlStatementBudget.statements(0));
+    }
+
+    @Test
+    public void testListNotesIsASingleSelectForTheLimitPlusLookahead() {
+        createNoteAndGetId();
+        createNoteAndGetId();
+
+        given()
+        .when()
+            .get("/v1/notes?limit=1")
+        .then()
+            .statusCode(200)
+            .spec(SqlStatementBudget.statementsAndRows(1, 2));
+    }
+
+    @Test
+    public void testListNoteSummariesIsASingleSelectForTheLimitPlusLookahead() {
+        createNoteAndGetId();
+        createNoteAndGetId();
+
+        given()
+        .when()
+            .get("/v1/notes?view=summary&limit=1")
+        .then()
+            .statusCode(200)
+            .spec(SqlStatementBudget.statementsAndRows(1, 2));
+    }
+
+    @Test
+    public void testListNotesWithFieldsIsASingleSelectForTheLimitPlusLookahead() {
+        createNoteAndGetId();
+        createNoteAndGetId();
+
+        given()
+        .when()
+            .get("/v1/notes?fields=title&limit=1")
+        .then()
+            .statusCode(200)
+            .spec(SqlStatementBudget.statementsAndRows(1, 2));
+    }
+
+    @Test
+    public void testGetNoteWithFieldsIsASingleSelectOfOneRow() {
+        String noteId = createNoteAndGetId();
+
+        given()
+        .when()
+            .get("/v1/notes/" + noteId + "?fields=id,updatedAt")
+        .then()
+            .statusCode(200)
+            .spec(SqlStatementBudget.statementsAndRows(1, 1));
+    }
+
+    @Test
+    public void testUpdateNoteIsOneSelectAndOneUpdate() {
+        String noteId = createNoteAndGetId();
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"title\": \"Changed\", \"content\": \"Changed\", \"tags\": []}")
+        .when()
+            .put("/v1/notes/" + noteId)
+        .then()
+            .statusCode(200)
+            .spec(SqlStatementBudget.statements(2));
+    }
+
+    @Test
+    public void testDeleteNoteIsASingleDeleteWithoutExistenceCheck() {
+        String noteId = createNoteAndGetId();
+
+        given()
+        .when()
+            .delete("/v1/notes/" + noteId)
+        .then()
+            .statusCode(204)
+            .spec(SqlStatementBudget.statementsAndRows(1, 0));
+
+        given()
+        .when()
+            .delete("/v1/notes/" + noteId)
+        .then()
+            .statusCode(404)
+            .spec(SqlStatementBudget.statements(1));
+    }
+
+    @Test
+    public void testMetricsEndpointExposesSqlStatisticsPerEndpoint() {
+        createNoteAndGetId();
+
+        given()
+        .when()
+            .get("/q/metrics")
+        .then()
+            .statusCode(200)
+            .body(containsString("notes_sql_statements_count{endpoint=\"NoteRestAdapter.createNote\""))
+            .body(containsString("notes_sql_rows_count"));
+    }
 }
@@ -0,0 +1,79 @@
+package com.example.notes.infrastructure.adapter.in.rest;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.quarkus.test.junit5.virtual.ShouldNotPin;
+import io.quarkus.test.junit5.virtual.VirtualThreadUnit;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.is;
+
+/**
+ * Runs the blocking endpoints on virtual threads with more concurrent callers than JDBC
+ * connections, and fails if any carrier thread gets pinned along the way.
+ */
+@QuarkusTest
+@TestProfile(VirtualThreadsTestProfile.class)
+@VirtualThreadUnit
+@ShouldNotPin
+public class NoteRestAdapterVirtualThreadsTest {
+
+    private static final int CALLERS = 64;
+
+    @Test
+    public void testConcurrentCrudWithoutPinning() throws Exception {
+        // Callers run on platform threads: REST Assured's Groovy class initialisation would pin a
+        // client virtual thread, and only the server's virtual threads are under test here.
+        try (ExecutorService executor = Executors.newFixedThreadPool(CALLERS)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                int caller = i;
+                futures.add(executor.submit(() -> createReadUpdateAndDelete(caller)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+    }
+
+    private void createReadUpdateAndDelete(int caller) {
+        String id = given()
+            .contentType(ContentType.JSON)
+            .body("{\"title\": \"Note " + caller + "\", \"content\": \"Content\", \"tags\": []}")
+        .when()
+            .post("/v1/notes")
+        .then()
+            .statusCode(201)
+            .extract()
+            .path("id");
+
+        given()
+        .when()
+            .get("/v1/notes/" + id)
+        .then()
+            .statusCode(200)
+            .body("title", is("Note " + caller));
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"title\": \"Updated " + caller + "\", \"content\": \"Content\", \"tags\": []}")
+        .when()
+            .put("/v1/notes/" + id)
+        .then()
+            .statusCode(200);
+
+        given()
+        .when()
+            .delete("/v1/notes/" + id)
+        .then()
+            .statusCode(204);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.notes.infrastructure.adapter.in.rest;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import static io.restassured.RestAssured.given;
+import static org.junit.jupiter.api.Assertions.*;
+
+@QuarkusTest
+public class NoteTracingTest {
+
+    @Inject
+    InMemorySpanExporter spanExporter;
+
+    @BeforeEach
+    public void resetSpans() {
+        spanExporter.reset();
+    }
+
+    @Test
+    public void testGetNoteTracesEndpointUseCaseRepositoryAndJdbc() throws InterruptedException {
+        String noteId = given()
+            .contentType(ContentType.JSON)
+            .body("{\"title\": \"Traced\", \"content\": \"Content\", \"tags\": []}")
+        .when()
+            .post("/v1/notes")
+        .then()
+            .statusCode(201)
+            .extract()
+            .path("id");
+        spanExporter.reset();
+
+        given().when().get("/v1/notes/" + noteId).then().statusCode(200);
+
+        SpanData server = awaitSpan(span -> span.getName().equals("GET /v1/notes/{id}"));
+        SpanData useCase = awaitSpan(span -> span.getName().equals("NoteApplicationService.getNote"));
+        SpanData repository = awaitSpan(span -> span.getName().equals("JpaNoteRepository.findById"));
+        SpanData statement = awaitSpan(span -> span.getName().startsWith("SELECT"));
+
+        assertEquals(server.getSpanId(), useCase.getParentSpanId());
+        assertEquals(useCase.getSpanId(), repository.getParentSpanId());
+        assertEquals(repository.getSpanId(), statement.getParentSpanId());
+        assertEquals(noteId, useCase.getAttributes().get(AttributeKey.stringKey("note.id")));
+        assertEquals(noteId, repository.getAttributes().get(AttributeKey.stringKey("note.id")));
+    }
+
+    @Test
+    public void testListNotesRecordsResultSizeAndContentBytes() throws InterruptedException {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"title\": \"Traced\", \"content\": \"Content\", \"tags\": []}")
+        .when()
+            .post("/v1/notes")
+        .then()
+            .statusCode(201);
+        spanExporter.reset();
+
+        given().when().get("/v1/notes?limit=1").then().statusCode(200);
+
+        SpanData useCase = awaitSpan(span -> span.getName().equals("NoteApplicationService.listNotes"));
+        assertEquals(1L, useCase.getAttributes().get(AttributeKey.longKey("notes.result.size")));
+        assertTrue(useCase.getAttributes().get(AttributeKey.longKey("notes.content.bytes")) > 0);
+    }
+
+    // Spans are exported in batches, so give the processor a moment.
+    private SpanData awaitSpan(Predicate<SpanData> matcher) throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            List<SpanData> spans = spanExporter.getFinishedSpanItems();
+            Optional<SpanData> match = spans.stream().filter(matcher).findFirst();
+            if (match.isPresent()) {
+                return match.get();
+            }
+            Thread.sleep(50);
+        }
+        fail("Span not exported: " + spanExporter.getFinishedSpanItems().stream().map(SpanData::getName).toList());
+        return null;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.notes.infrastructure.adapter.in.rest;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.http.ContentType;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Drives {@link ReactiveNoteRestAdapter} over the Vert.x PostgreSQL client. Only runs with
+ * {@code mvn -Preactive test}, which needs Docker for the Dev Services database.
+ */
+@QuarkusTest
+@TestProfile(ReactivePersistenceTestProfile.class)
+@Tag("reactive")
+public class ReactiveNoteRestAdapterTest {
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Test
+    public void testCrudRoundTrip() {
+        String id = createNote("Reactive", "crud");
+
+        String etag = given()
+        .when()
+            .get("/v1/notes/" + id)
+        .then()
+            .statusCode(200)
+            .body("title", is("Reactive"))
+            .extract()
+            .header("ETag");
+
+        given()
+            .contentType(ContentType.JSON)
+            .header("If-Match", etag)
+            .body("{\"title\": \"Updated\", \"content\": \"Content\", \"tags\": []}")
+        .when()
+            .put("/v1/notes/" + id)
+        .then()
+            .statusCode(200)
+            .body("title", is("Updated"));
+
+        given()
+            .contentType(ContentType.JSON)
+            .header("If-Match", etag)
+            .body("{\"title\": \"Stale\", \"content\": \"Content\", \"tags\": []}")
+        .when()
+            .put("/v1/notes/" + id)
+        .then()
+            .statusCode(412);
+
+        given().when().delete("/v1/notes/" + id).then().statusCode(204);
+        given().when().get("/v1/notes/" + id).then().statusCode(404);
+    }
+
+    @Test
+    public void testStreamEndsItsTransactionAndReleasesTheConnection() throws SQLException {
+        for (int i = 0; i < 3; i++) {
+            createNote("Streamed " + i, "streamed");
+        }
+
+        for (int i = 0; i < 2; i++) {
+            String body = given()
+                .accept("application/x-ndjson")
+            .when()
+                .get("/v1/notes?tag=streamed")
+            .then()
+                .statusCode(200)
+                .extract()
+                .asString();
+            assertEquals(3, body.lines().count());
+        }
+
+        // The pool has a single connection, so this request only completes if the stream released it.
+        createNote("After streams", "after");
+        assertEquals(0, idleInTransactionSessions());
+    }
+
+    @Test
+    public void testProjectionsAreRejected() {
+        String id = createNote("Projected", "projected");
+
+        given().when().get("/v1/notes/" + id + "?fields=title").then().statusCode(400);
+        given().when().get("/v1/notes?view=summary").then().statusCode(400);
+        given().when().get("/v1/notes?fields=title").then().statusCode(400);
+        given().accept("application/x-ndjson").when().get("/v1/notes?view=summary").then().statusCode(400);
+    }
+
+    private String createNote(String title, String tag) {
+        return given()
+            .contentType(ContentType.JSON)
+            .body("{\"title\": \"" + title + "\", \"content\": \"Content\", \"tags\": [\"" + tag + "\"]}")
+        .when()
+            .post("/v1/notes")
+        .then()
+            .statusCode(201)
+            .extract()
+            .path("id");
+    }
+
+    private long idleInTransactionSessions() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery(
+                     "SELECT count(*) FROM pg_stat_activity WHERE state = 'idle in transaction'")) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.notes.infrastructure.adapter.in.rest;
+
+import com.example.notes.infrastructure.adapter.out.persistence.PostgresTestProfile;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds the reactive persistence adapter on a PostgreSQL Dev Services database. Needs the
+ * Vert.x PostgreSQL client, which only the {@code reactive} Maven profile adds.
+ */
+public class ReactivePersistenceTestProfile extends PostgresTestProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        Map<String, String> overrides = new HashMap<>(super.getConfigOverrides());
+        overrides.put("notes.persistence.mode", "reactive");
+        overrides.put("quarkus.datasource.reactive", "true");
+        overrides.put("quarkus.datasource.reactive.url", "");
+        // One connection: a stream that kept its connection or transaction would stall every later request.
+        overrides.put("quarkus.datasource.reactive.max-size", "1");
+        return overrides;
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.notes.infrastructure.adapter.in.rest;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Test;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+
+@QuarkusTest
+public class ResponseCompressionTest {
+
+    private static final String LARGE_CONTENT = "GET /v1/notes 200 12 ms ".repeat(200);
+
+    private String createNote(String content) {
+        return given()
+            .contentType(ContentType.JSON)
+            .body("{\"title\": \"Compressed\", \"content\": \"" + content + "\", \"tags\": []}")
+        .when()
+            .post("/v1/notes")
+        .then()
+            .statusCode(201)
+            .extract()
+            .path("id");
+    }
+
+    @Test
+    public void testLargeResponseIsGzipCompressedWhenAccepted() {
+        String noteId = createNote(LARGE_CONTENT);
+
+        given()
+            .header("Accept-Encoding", "gzip")
+        .when()
+            .get("/v1/notes/" + noteId)
+        .then()
+            .statusCode(200)
+            .header("Content-Encoding", is("gzip"))
+            .header("Vary", containsString("Accept-Encoding"))
+            .body("content", is(LARGE_CONTENT));
+    }
+
+    @Test
+    public void testCompressedBodyHasItsOwnEntityTag() {
+        String noteId = createNote(LARGE_CONTENT);
+        String identityTag = given()
+            .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+            .header("Accept-Encoding", "identity")
+        .when()
+            .get("/v1/notes/" + noteId)
+        .then()
+            .statusCode(200)
+            .header("Content-Encoding", nullValue())
+            .extract()
+            .header("ETag");
+
+        String gzipTag = given()
+            .header("Accept-Encoding", "gzip")
+        .when()
+            .get("/v1/notes/" + noteId)
+        .then()
+            .statusCode(200)
+            .header("Content-Encoding", is("gzip"))
+            .header("ETag", is(identityTag.substring(0, identityTag.length() - 1) + "-gzip\""))
+            .extract()
+            .header("ETag");
+
+        given()
+            .header("Accept-Encoding", "gzip")
+            .header("If-None-Match", gzipTag)
+        .when()
+            .get("/v1/notes/" + noteId)
+        .then()
+            .statusCode(304)
+            .header("ETag", is(gzipTag));
+
+        given()
+            .contentType(ContentType.JSON)
+            .header("If-Match", gzipTag)
+            .body("{\"title\": \"Updated\", \"content\": \"Short\", \"tags\": []}")
+        .when()
+            .put("/v1/notes/" + noteId)
+        .then()
+            .statusCode(200);
+    }
+
+    @Test
+    public void testDeflateIsUsedWhenPreferred() {
+        String noteId = createNote(LARGE_CONTENT);
+
+        given()
+            .header("Accept-Encoding", "gzip;q=0.5, deflate")
+        .when()
+            .get("/v1/notes/" + noteId)
+        .then()
+            .statusCode(200)
+            .header("Content-Encoding", is("deflate"))
+            .body("content", is(LARGE_CONTENT));
+    }
+
+    @Test
+    public void testResponseBelowMinimumSizeIsNotCompressed() {
+        String noteId = createNote("Short");
+
+        given()
+            .header("Accept-Encoding", "gzip")
+        .when()
+            .get("/v1/notes/" + noteId)
+        .then()
+            .statusCode(200)
+            .header("Content-Encoding", nullValue())
+            .header("Vary", containsString("Accept-Encoding"))
+            .body("content", is("Short"));
+    }
+
+    @Test
+    public void testResponseIsNotCompressedWithoutAcceptableEncoding() {
+        String noteId = createNote(LARGE_CONTENT);
+
+        // Without content decoders REST Assured sends only this Accept-Encoding, not its own gzip,deflate.
+        given()
+            .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+            .header("Accept-Encoding", "identity, gzip;q=0")
+        .when()
+            .get("/v1/notes/" + noteId)
+        .then()
+            .statusCode(200)
+            .header("Content-Encoding", nullValue())
+            .body("content", is(LARGE_CONTENT));
+    }
+
+    @Test
+    public void testCompressedStreamedListDecodesCompletely() {
+        createNote(LARGE_CONTENT);
+        createNote(LARGE_CONTENT);
+
+        given()
+            .header("Accept", "application/x-ndjson")
+            .header("Accept-Encoding", "gzip")
+        .when()
+            .get("/v1/notes")
+        .then()
+            .statusCode(200)
+            .header("Content-Encoding", is("gzip"))
+            .body(containsString(LARGE_CONTENT));
+    }
+
+    @Test
+    public void testMetricsEndpointExposesCompressionRatioAndTime() {
+        String noteId = createNote(LARGE_CONTENT);
+        given().header("Accept-Encoding", "gzip").when().get("/v1/notes/" + noteId).then().statusCode(200);
+
+        given()
+        .when()
+            .get("/q/metrics")
+        .then()
+            .statusCode(200)
+            .body(containsString("notes_http_compression_ratio_count{encoding=\"gzip\""))
+            .body(containsString("notes_http_compression_seconds_count{encoding=\"gzip\""));
+    }
+}
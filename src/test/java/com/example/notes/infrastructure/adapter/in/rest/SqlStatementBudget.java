@@ -0,0 +1,31 @@
+package com.example.notes.infrastructure.adapter.in.rest;
+
+import io.restassured.builder.ResponseSpecBuilder;
+import io.restassured.specification.ResponseSpecification;
+
+import static org.hamcrest.CoreMatchers.is;
+
+/**
+ * Response expectations on the SQL statistics headers, so an endpoint that starts issuing
+ * an extra query (an existence check, a reload before update, an N+1) fails its test.
+ * Budgets in the H2 tests exclude the {@code pg_notify} each write sends when cross-node cache
+ * invalidation is on; {@link SqlStatementBudgetPostgresTest} pins them with it.
+ */
+final class SqlStatementBudget {
+
+    private SqlStatementBudget() {
+    }
+
+    static ResponseSpecification statements(int expected) {
+        return new ResponseSpecBuilder()
+                .expectHeader(SqlStatisticsFilter.STATEMENTS_HEADER, is(String.valueOf(expected)))
+                .build();
+    }
+
+    static ResponseSpecification statementsAndRows(int statements, int rows) {
+        return new ResponseSpecBuilder()
+                .addResponseSpecification(statements(statements))
+                .expectHeader(SqlStatisticsFilter.ROWS_HEADER, is(String.valueOf(rows)))
+                .build();
+    }
+}
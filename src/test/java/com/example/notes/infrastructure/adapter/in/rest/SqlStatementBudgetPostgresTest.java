@@ -0,0 +1,92 @@
+package com.example.notes.infrastructure.adapter.in.rest;
+
+import com.example.notes.infrastructure.adapter.out.persistence.PostgresTestProfile;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.http.ContentType;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Statement budgets of the writing endpoints with cross-node cache invalidation on, where every
+ * change also sends one {@code pg_notify}, and of search, which needs PostgreSQL full-text
+ * functions. Only runs with {@code mvn -Ppostgres test}.
+ */
+@QuarkusTest
+@TestProfile(PostgresTestProfile.class)
+@Tag("postgres")
+public class SqlStatementBudgetPostgresTest {
+
+    @Test
+    public void testCreateNoteIsASingleInsertWithoutNotify() {
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"title\": \"Budget\", \"content\": \"Content\", \"tags\": []}")
+        .when()
+            .post("/v1/notes")
+        .then()
+            .statusCode(201)
+            .spec(SqlStatementBudget.statements(1));
+    }
+
+    @Test
+    public void testUpdateNoteIsLockUpdateAndNotify() {
+        String noteId = createNote();
+
+        given()
+            .contentType(ContentType.JSON)
+            .body("{\"title\": \"Changed\", \"content\": \"Changed\", \"tags\": []}")
+        .when()
+            .put("/v1/notes/" + noteId)
+        .then()
+            .statusCode(200)
+            .spec(SqlStatementBudget.statements(3));
+    }
+
+    @Test
+    public void testDeleteNoteIsDeleteAndNotify() {
+        String noteId = createNote();
+
+        given()
+        .when()
+            .delete("/v1/notes/" + noteId)
+        .then()
+            .statusCode(204)
+            .spec(SqlStatementBudget.statements(2));
+    }
+
+    @Test
+    public void testSearchIsASingleSelectCountingEachHit() {
+        String word = "budget" + UUID.randomUUID().toString().replace("-", "");
+        createNote(word);
+        createNote(word);
+
+        given()
+            .queryParam("q", word)
+        .when()
+            .get("/v1/notes/search")
+        .then()
+            .statusCode(200)
+            .spec(SqlStatementBudget.statementsAndRows(1, 2));
+    }
+
+    private String createNote() {
+        return createNote("Budget");
+    }
+
+    private String createNote(String title) {
+        return given()
+            .contentType(ContentType.JSON)
+            .body("{\"title\": \"" + title + "\", \"content\": \"Content\", \"tags\": []}")
+        .when()
+            .post("/v1/notes")
+        .then()
+            .statusCode(201)
+            .extract()
+            .path("id");
+    }
+}
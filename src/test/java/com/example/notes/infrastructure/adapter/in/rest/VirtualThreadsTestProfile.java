@@ -0,0 +1,17 @@
+package com.example.notes.infrastructure.adapter.in.rest;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+import java.util.Map;
+
+public class VirtualThreadsTestProfile implements QuarkusTestProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        return Map.of(
+            "quarkus.virtual-threads.enabled", "true",
+            // A pool far smaller than the number of callers forces virtual threads to wait for connections.
+            "quarkus.datasource.jdbc.max-size", "4"
+        );
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.notes.infrastructure.adapter.in.rest.mapper;
+
+import com.example.notes.domain.model.NoteField;
+import com.example.notes.domain.model.NoteId;
+import com.example.notes.domain.model.PartialNote;
+import com.example.notes.infrastructure.adapter.in.proto.NoteMessages;
+import com.example.notes.infrastructure.adapter.in.rest.dto.CreateNoteRequest;
+import com.example.notes.infrastructure.adapter.in.rest.dto.NoteResponse;
+import com.example.notes.infrastructure.adapter.in.rest.dto.PartialNoteResponse;
+import com.example.notes.infrastructure.adapter.in.rest.dto.UpdateNoteRequest;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NoteProtobufMapperTest {
+
+    private final NoteProtobufMapper mapper = new NoteProtobufMapper();
+
+    @Test
+    void toMessage_writesNotesWithMicrosecondTimestamps() throws InvalidProtocolBufferException {
+        NoteResponse note = new NoteResponse(UUID.randomUUID(), "Title", "Content ünïcode",
+                LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_456_000), LocalDateTime.of(2024, 3, 2, 8, 0), List.of("a", "b"));
+        NoteResponse old = new NoteResponse(UUID.randomUUID(), "Old", "Before the epoch",
+                LocalDateTime.of(1969, 12, 31, 23, 59, 59, 500_000_000), LocalDateTime.of(1970, 1, 1, 0, 0), List.of());
+
+        NoteMessages.NoteList list = NoteMessages.NoteList.parseFrom(mapper.toMessage(List.of(note, old)).toByteArray());
+
+        assertEquals(2, list.getNotesCount());
+        NoteMessages.Note first = list.getNotes(0);
+        assertEquals(note.id().toString(), first.getId());
+        assertEquals("Content ünïcode", first.getContent());
+        assertEquals(1_709_296_215_123_456L, first.getCreatedAt());
+        assertEquals(List.of("a", "b"), first.getTagsList());
+        assertEquals(-500_000L, list.getNotes(1).getCreatedAt());
+        assertEquals(0L, list.getNotes(1).getUpdatedAt());
+    }
+
+    @Test
+    void toNoteMessage_withPartialNote_writesOnlyRequestedFields() {
+        NoteId id = NoteId.generate();
+        PartialNote partial = new PartialNote(EnumSet.of(NoteField.TITLE), id, "Sparse", null, LocalDateTime.now(), LocalDateTime.now(), null, 3);
+
+        NoteMessages.Note message = mapper.toNoteMessage(new PartialNoteResponse(partial));
+
+        assertEquals(id.value().toString(), message.getId());
+        assertEquals("Sparse", message.getTitle());
+        assertEquals("", message.getContent());
+        assertEquals(0L, message.getCreatedAt());
+        assertEquals(0, message.getTagsCount());
+    }
+
+    @Test
+    void toCreateNoteRequest_absentFieldsStayNull() {
+        CreateNoteRequest request = mapper.toCreateNoteRequest(
+                NoteMessages.CreateNoteRequest.newBuilder().setContent("Content").build());
+
+        assertNull(request.title());
+        assertEquals("Content", request.content());
+        assertEquals(List.of(), request.tags());
+    }
+
+    @Test
+    void toUpdateNoteRequest_keepsEmptyStringsApartFromAbsentOnes() {
+        UpdateNoteRequest request = mapper.toUpdateNoteRequest(
+                NoteMessages.UpdateNoteRequest.newBuilder().setTitle("").addTags("work").build());
+
+        assertEquals("", request.title());
+        assertNull(request.content());
+        assertEquals(List.of("work"), request.tags());
+    }
+}
@@ -1,13 +1,26 @@
 package com.example.notes.infrastructure.adapter.in.rest.mapper;
 
 import com.example.notes.application.port.in.CreateNoteUseCase.CreateNoteCommand;
+import com.example.notes.domain.exception.NoteVersionConflictException;
 import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.NoteCursor;
+import com.example.notes.domain.model.NoteField;
+import com.example.notes.domain.model.NoteSearchHit;
+import com.example.notes.infrastructure.adapter.in.rest.BinaryMediaType;
 import com.example.notes.infrastructure.adapter.in.rest.dto.CreateNoteRequest;
 import com.example.notes.infrastructure.adapter.in.rest.dto.NoteResponse;
+import com.example.notes.infrastructure.adapter.in.rest.dto.NoteSearchHitResponse;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.MediaType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
+import java.util.Date;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -97,4 +110,148 @@ class NoteRestMapperTest {
         assertEquals(note.updatedAt(), response.updatedAt());
         assertEquals(response.createdAt(), response.updatedAt());
     }
+
+    @Test
+    void toResponse_withSearchHit_carriesSnippetAndRank() {
+        Note note = Note.create("Title", "Content", List.of("tag1"));
+        NoteSearchHit hit = new NoteSearchHit(note, 0.75f, "<mark>Content</mark>");
+
+        NoteSearchHitResponse response = mapper.toResponse(hit);
+
+        assertEquals(note.id().value(), response.id());
+        assertEquals("Title", response.title());
+        assertEquals("<mark>Content</mark>", response.snippet());
+        assertEquals(0.75f, response.rank());
+        assertEquals(List.of("tag1"), response.tags());
+    }
+
+    @Test
+    void toEntityTag_changesWhenVersionChanges() {
+        UUID id = UUID.randomUUID();
+
+        EntityTag original = mapper.toEntityTag(id, 41, MediaType.APPLICATION_JSON_TYPE);
+
+        assertFalse(original.isWeak());
+        assertEquals(original, mapper.toEntityTag(id, 41, MediaType.APPLICATION_JSON_TYPE));
+        assertNotEquals(original, mapper.toEntityTag(id, 42, MediaType.APPLICATION_JSON_TYPE));
+    }
+
+    @Test
+    void toEntityTag_differsPerRepresentation() {
+        UUID id = UUID.randomUUID();
+
+        EntityTag json = mapper.toEntityTag(id, 1, MediaType.valueOf("application/json;charset=UTF-8"));
+
+        assertEquals(json, mapper.toEntityTag(id, 1, MediaType.APPLICATION_JSON_TYPE));
+        assertNotEquals(json, mapper.toEntityTag(id, 1, BinaryMediaType.APPLICATION_CBOR_TYPE));
+        assertNotEquals(json, mapper.toEntityTag(id, 1, BinaryMediaType.APPLICATION_PROTOBUF_TYPE));
+        assertThrows(IllegalArgumentException.class, () -> mapper.toEntityTag(id, 1, MediaType.TEXT_PLAIN_TYPE));
+    }
+
+    @Test
+    void toExpectedVersion_parsesEntityTagOfEveryRepresentation() {
+        UUID id = UUID.randomUUID();
+
+        for (MediaType mediaType : List.of(
+                MediaType.APPLICATION_JSON_TYPE,
+                BinaryMediaType.APPLICATION_CBOR_TYPE,
+                BinaryMediaType.APPLICATION_SMILE_TYPE,
+                BinaryMediaType.APPLICATION_PROTOBUF_TYPE)) {
+            assertEquals(77L, mapper.toExpectedVersion(id, "\"" + mapper.toEntityTag(id, 77, mediaType).getValue() + "\""));
+        }
+    }
+
+    @Test
+    void toExpectedVersion_parsesEntityTagOfCompressedBody() {
+        UUID id = UUID.randomUUID();
+        String tag = mapper.toEntityTag(id, 77, MediaType.APPLICATION_JSON_TYPE).getValue();
+
+        assertEquals(77L, mapper.toExpectedVersion(id, "\"" + tag + "-gzip\""));
+        assertEquals(77L, mapper.toExpectedVersion(id, "\"" + tag + "-deflate\""));
+        assertThrows(NoteVersionConflictException.class, () -> mapper.toExpectedVersion(id, "\"" + tag + "-br\""));
+    }
+
+    @Test
+    void toExpectedVersion_withoutRepresentation_throwsConflict() {
+        UUID id = UUID.randomUUID();
+
+        assertThrows(NoteVersionConflictException.class, () -> mapper.toExpectedVersion(id, "\"" + id + "-v1\""));
+        assertThrows(NoteVersionConflictException.class, () -> mapper.toExpectedVersion(id, "\"" + id + "-v1-xml\""));
+    }
+
+    @Test
+    void toExpectedVersion_parsesOwnEntityTag() {
+        UUID id = UUID.randomUUID();
+        String ifMatch = "\"" + mapper.toEntityTag(id, 1234, MediaType.APPLICATION_JSON_TYPE).getValue() + "\"";
+
+        assertEquals(1234L, mapper.toExpectedVersion(id, ifMatch));
+    }
+
+    @Test
+    void toExpectedVersion_withoutHeaderOrWildcard_returnsNull() {
+        UUID id = UUID.randomUUID();
+
+        assertNull(mapper.toExpectedVersion(id, null));
+        assertNull(mapper.toExpectedVersion(id, "*"));
+    }
+
+    @Test
+    void toExpectedVersion_withTagOfAnotherNote_throwsConflict() {
+        String otherTag = "\"" + mapper.toEntityTag(UUID.randomUUID(), 1, MediaType.APPLICATION_JSON_TYPE).getValue() + "\"";
+
+        assertThrows(NoteVersionConflictException.class, () -> mapper.toExpectedVersion(UUID.randomUUID(), otherTag));
+    }
+
+    @Test
+    void toExpectedVersion_withWeakTag_throwsConflict() {
+        UUID id = UUID.randomUUID();
+        String weakTag = "W/\"" + mapper.toEntityTag(id, 1, MediaType.APPLICATION_JSON_TYPE).getValue() + "\"";
+
+        assertThrows(NoteVersionConflictException.class, () -> mapper.toExpectedVersion(id, weakTag));
+    }
+
+    @Test
+    void toLastModified_truncatesToWholeSeconds() {
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 1, 12, 0, 0, 999_000_000);
+
+        Date lastModified = mapper.toLastModified(updatedAt);
+
+        assertEquals(0, lastModified.getTime() % 1000);
+    }
+
+    @Test
+    void cursorToken_roundTripsCursor() {
+        Note note = Note.create("Title", "Content", List.of());
+        NoteCursor cursor = NoteCursor.of(note);
+
+        String token = mapper.toCursorToken(cursor);
+
+        assertEquals(cursor, mapper.fromCursorToken(token));
+    }
+
+    @Test
+    void fromCursorToken_withNullOrBlankToken_returnsNull() {
+        assertNull(mapper.fromCursorToken(null));
+        assertNull(mapper.fromCursorToken(" "));
+    }
+
+    @Test
+    void fromCursorToken_withMalformedToken_throwsBadRequest() {
+        assertThrows(BadRequestException.class, () -> mapper.fromCursorToken("not-a-cursor"));
+    }
+
+    @Test
+    void toFields_parsesJsonPropertyNamesAndAlwaysIncludesId() {
+        assertEquals(Set.of(NoteField.ID, NoteField.UPDATED_AT, NoteField.TAGS), mapper.toFields(" updatedAt, tags ,"));
+    }
+
+    @Test
+    void toFields_withNullParameter_returnsNull() {
+        assertNull(mapper.toFields(null));
+    }
+
+    @Test
+    void toFields_withUnknownField_throwsBadRequest() {
+        assertThrows(BadRequestException.class, () -> mapper.toFields("id,body"));
+    }
 }
@@ -0,0 +1,249 @@
+package com.example.notes.infrastructure.adapter.out.cache;
+
+import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.NoteField;
+import com.example.notes.domain.model.NoteId;
+import com.example.notes.domain.model.NoteVersion;
+import com.example.notes.domain.model.PartialNote;
+import com.example.notes.infrastructure.adapter.out.persistence.JpaNoteRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingNoteRepositoryTest {
+
+    private JpaNoteRepository delegate;
+    private TransactionSynchronizationRegistry transactionRegistry;
+    private NoteCacheInvalidationPublisher invalidationPublisher;
+    private MeterRegistry meterRegistry;
+    private CachingNoteRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(JpaNoteRepository.class);
+        transactionRegistry = mock(TransactionSynchronizationRegistry.class);
+        when(transactionRegistry.getTransactionStatus()).thenReturn(Status.STATUS_NO_TRANSACTION);
+        invalidationPublisher = mock(NoteCacheInvalidationPublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new CachingNoteRepository(delegate, transactionRegistry, invalidationPublisher, meterRegistry, true, 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    void findById_secondCall_isServedFromCache() {
+        Note note = Note.create("Title", "Content", List.of());
+        when(delegate.findById(note.id())).thenReturn(Optional.of(note));
+
+        assertEquals(Optional.of(note), repository.findById(note.id()));
+        assertEquals(Optional.of(note), repository.findById(note.id()));
+
+        verify(delegate, times(1)).findById(note.id());
+        assertEquals(1, repository.stats().hitCount());
+        assertEquals(1, repository.stats().missCount());
+    }
+
+    @Test
+    void findById_hitsAndMisses_areExportedToMicrometer() {
+        Note note = Note.create("Title", "Content", List.of());
+        when(delegate.findById(note.id())).thenReturn(Optional.of(note));
+
+        repository.findById(note.id());
+        repository.findById(note.id());
+        repository.findById(note.id());
+
+        assertEquals(2.0, gets("hit"));
+        assertEquals(1.0, gets("miss"));
+    }
+
+    @Test
+    void findVersionAndPartialById_servedFromCache_doNotCountAsLookups() {
+        Note note = Note.create("Title", "Content", List.of());
+        when(delegate.findById(note.id())).thenReturn(Optional.of(note));
+        repository.findById(note.id());
+
+        repository.findVersionById(note.id());
+        repository.findPartialById(note.id(), Set.of(NoteField.TITLE));
+
+        assertEquals(0, repository.stats().hitCount());
+        assertEquals(1, repository.stats().missCount());
+    }
+
+    @Test
+    void findById_whenNoteMissing_isNotCached() {
+        NoteId id = NoteId.generate();
+        when(delegate.findById(id)).thenReturn(Optional.empty());
+
+        assertTrue(repository.findById(id).isEmpty());
+        assertTrue(repository.findById(id).isEmpty());
+
+        verify(delegate, times(2)).findById(id);
+    }
+
+    @Test
+    void findById_whenInvalidatedWhileLoading_doesNotCacheLoadedNote() {
+        Note note = Note.create("Title", "Content", List.of());
+        when(delegate.findById(note.id())).thenAnswer(invocation -> {
+            repository.invalidateAll(List.of(note.id()));
+            return Optional.of(note);
+        });
+
+        repository.findById(note.id());
+        repository.findById(note.id());
+
+        verify(delegate, times(2)).findById(note.id());
+    }
+
+    @Test
+    void update_invalidatesCachedNote() {
+        Note note = Note.create("Title", "Content", List.of());
+        Note updated = note.update("Updated", "Content", List.of());
+        when(delegate.findById(note.id())).thenReturn(Optional.of(note), Optional.of(updated));
+        when(delegate.update(updated)).thenReturn(updated);
+        repository.findById(note.id());
+
+        repository.update(updated);
+
+        assertEquals("Updated", repository.findById(note.id()).orElseThrow().title());
+        verify(delegate, times(2)).findById(note.id());
+    }
+
+    @Test
+    void deleteById_invalidatesCachedNote() {
+        Note note = Note.create("Title", "Content", List.of());
+        when(delegate.findById(note.id())).thenReturn(Optional.of(note), Optional.empty());
+        when(delegate.deleteById(note.id())).thenReturn(true);
+        repository.findById(note.id());
+
+        assertTrue(repository.deleteById(note.id()));
+
+        assertTrue(repository.findById(note.id()).isEmpty());
+    }
+
+    @Test
+    void update_insideTransaction_invalidatesAgainAfterCompletion() {
+        Note note = Note.create("Title", "Content", List.of());
+        when(transactionRegistry.getTransactionStatus()).thenReturn(Status.STATUS_ACTIVE);
+        when(delegate.update(note)).thenReturn(note);
+        when(delegate.findById(note.id())).thenReturn(Optional.of(note));
+
+        repository.update(note);
+        repository.findById(note.id());
+
+        ArgumentCaptor<Synchronization> synchronization = ArgumentCaptor.forClass(Synchronization.class);
+        verify(transactionRegistry).registerInterposedSynchronization(synchronization.capture());
+        synchronization.getValue().afterCompletion(Status.STATUS_COMMITTED);
+        repository.findById(note.id());
+
+        verify(delegate, times(2)).findById(note.id());
+    }
+
+    @Test
+    void update_publishesInvalidationForOtherNodes() {
+        Note note = Note.create("Title", "Content", List.of());
+        when(delegate.update(note)).thenReturn(note);
+
+        repository.update(note);
+
+        verify(invalidationPublisher).publish(note.id());
+    }
+
+    @Test
+    void insert_doesNotPublishInvalidation() {
+        Note note = Note.create("Title", "Content", List.of());
+        when(delegate.insert(note)).thenReturn(note);
+
+        repository.insert(note);
+
+        verify(invalidationPublisher, never()).publish(note.id());
+    }
+
+    @Test
+    void deleteById_publishesInvalidationForOtherNodes() {
+        NoteId id = NoteId.generate();
+        when(delegate.deleteById(id)).thenReturn(true);
+
+        repository.deleteById(id);
+
+        verify(invalidationPublisher).publish(id);
+    }
+
+    @Test
+    void deleteById_whenNothingDeleted_doesNotPublishInvalidation() {
+        NoteId id = NoteId.generate();
+        when(delegate.deleteById(id)).thenReturn(false);
+
+        assertFalse(repository.deleteById(id));
+
+        verify(invalidationPublisher, never()).publish(id);
+    }
+
+    @Test
+    void invalidateAll_withIds_evictsOnlyThoseNotes() {
+        Note evicted = Note.create("Evicted", "Content", List.of());
+        Note kept = Note.create("Kept", "Content", List.of());
+        when(delegate.findById(evicted.id())).thenReturn(Optional.of(evicted));
+        when(delegate.findById(kept.id())).thenReturn(Optional.of(kept));
+        repository.findById(evicted.id());
+        repository.findById(kept.id());
+
+        repository.invalidateAll(List.of(evicted.id()));
+        repository.findById(evicted.id());
+        repository.findById(kept.id());
+
+        verify(delegate, times(2)).findById(evicted.id());
+        verify(delegate, times(1)).findById(kept.id());
+    }
+
+    @Test
+    void findVersionById_whenCached_skipsDelegate() {
+        Note note = Note.create("Title", "Content", List.of());
+        when(delegate.findById(note.id())).thenReturn(Optional.of(note));
+        repository.findById(note.id());
+
+        assertEquals(Optional.of(NoteVersion.of(note)), repository.findVersionById(note.id()));
+
+        verify(delegate, never()).findVersionById(note.id());
+    }
+
+    @Test
+    void findById_whenDisabled_alwaysHitsDelegate() {
+        repository = new CachingNoteRepository(delegate, transactionRegistry, invalidationPublisher, meterRegistry, false, 100, Duration.ofMinutes(5));
+        Note note = Note.create("Title", "Content", List.of());
+        when(delegate.findById(note.id())).thenReturn(Optional.of(note));
+
+        repository.findById(note.id());
+        repository.findById(note.id());
+
+        verify(delegate, times(2)).findById(note.id());
+    }
+
+    @Test
+    void findPartialById_whenNoteCached_isServedFromCache() {
+        Note note = Note.create("Title", "Content", List.of("tag"));
+        when(delegate.findById(note.id())).thenReturn(Optional.of(note));
+        repository.findById(note.id());
+
+        PartialNote partial = repository.findPartialById(note.id(), Set.of(NoteField.ID, NoteField.TITLE)).orElseThrow();
+
+        assertEquals("Title", partial.title());
+        assertNull(partial.content());
+        assertNull(partial.tags());
+        verify(delegate, never()).findPartialById(any(), any());
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "notes").tag("result", result).functionCounter().count();
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.notes.infrastructure.adapter.out.cache;
+
+import com.example.notes.domain.model.NoteId;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NoteCacheInvalidationListenerTest {
+
+    @Test
+    void collect_deduplicatesIdsAcrossNotifications() {
+        UUID id = UUID.randomUUID();
+        Set<NoteId> ids = new HashSet<>();
+
+        NoteCacheInvalidationListener.collect(new PGNotification[]{notification(id.toString()), notification(id.toString())}, ids);
+
+        assertEquals(Set.of(NoteId.of(id)), ids);
+    }
+
+    @Test
+    void collect_skipsMalformedPayloads() {
+        UUID id = UUID.randomUUID();
+        Set<NoteId> ids = new HashSet<>();
+
+        NoteCacheInvalidationListener.collect(new PGNotification[]{notification("not-a-uuid"), notification(id.toString())}, ids);
+
+        assertEquals(Set.of(NoteId.of(id)), ids);
+    }
+
+    @Test
+    void collectBatch_endsAtTheWindowEvenWhileNotificationsKeepArriving() throws SQLException {
+        PGConnection connection = mock(PGConnection.class);
+        when(connection.getNotifications(anyInt())).thenAnswer(invocation -> {
+            Thread.sleep(5);
+            return new PGNotification[]{notification(UUID.randomUUID().toString())};
+        });
+
+        long start = System.nanoTime();
+        Set<NoteId> ids = NoteCacheInvalidationListener.collectBatch(
+                connection, new PGNotification[]{notification(UUID.randomUUID().toString())}, Duration.ofMillis(50));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 1000);
+        assertTrue(ids.size() < 100, "collected " + ids.size());
+    }
+
+    private static PGNotification notification(String payload) {
+        PGNotification notification = mock(PGNotification.class);
+        when(notification.getParameter()).thenReturn(payload);
+        return notification;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.notes.infrastructure.adapter.out.persistence;
+
+import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.NoteId;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the former existence check followed by Panache's deleteById with the single bulk
+ * delete now used by {@link JpaNoteRepository#deleteById}. Statement counts are asserted; the
+ * latencies are only logged, since H2 in memory says little about a networked database.
+ */
+@QuarkusTest
+class JpaNoteRepositoryDeleteBenchmarkTest {
+
+    private static final Logger LOG = Logger.getLogger(JpaNoteRepositoryDeleteBenchmarkTest.class);
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+
+    @Inject
+    JpaNoteRepository repository;
+
+    @Inject
+    SessionFactory sessionFactory;
+
+    @Test
+    void singleStatementDelete_issuesHalfTheStatementsOfCheckThenDelete() {
+        Result checkThenDelete = measure("existsById + deleteById", id -> {
+            if (NoteJpaEntity.findByIdOptional(id.value()).isEmpty()) {
+                return false;
+            }
+            return NoteJpaEntity.deleteById(id.value());
+        });
+        Result singleStatement = measure("single DELETE", repository::deleteById);
+
+        assertEquals(2.0, checkThenDelete.statementsPerDelete());
+        assertEquals(1.0, singleStatement.statementsPerDelete());
+    }
+
+    @Test
+    void singleStatementDelete_forMissingNote_issuesOneStatement() {
+        Statistics statistics = statistics();
+
+        boolean deleted = QuarkusTransaction.requiringNew().call(() -> repository.deleteById(NoteId.generate()));
+
+        assertFalse(deleted);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private Result measure(String name, Predicate<NoteId> delete) {
+        deleteAll(insertNotes(WARMUP), delete);
+        List<NoteId> ids = insertNotes(ITERATIONS);
+        Statistics statistics = statistics();
+        long elapsedNanos = deleteAll(ids, delete);
+
+        Result result = new Result(
+            (double) statistics.getPrepareStatementCount() / ITERATIONS,
+            elapsedNanos / ITERATIONS / 1_000.0
+        );
+        LOG.infof("%s: %.1f statements and %.1f µs per delete", name, result.statementsPerDelete(), result.microsPerDelete());
+        return result;
+    }
+
+    private long deleteAll(List<NoteId> ids, Predicate<NoteId> delete) {
+        long elapsedNanos = 0;
+        for (NoteId id : ids) {
+            long start = System.nanoTime();
+            assertTrue(QuarkusTransaction.requiringNew().call(() -> delete.test(id)));
+            elapsedNanos += System.nanoTime() - start;
+        }
+        return elapsedNanos;
+    }
+
+    private List<NoteId> insertNotes(int count) {
+        List<NoteId> ids = new ArrayList<>(count);
+        QuarkusTransaction.requiringNew().run(() -> {
+            for (int i = 0; i < count; i++) {
+                ids.add(repository.insert(Note.create("Note " + i, "Content ".repeat(100), List.of("bench"))).id());
+            }
+        });
+        return ids;
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private record Result(double statementsPerDelete, double microsPerDelete) {
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.notes.infrastructure.adapter.out.persistence;
+
+import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.NoteId;
+import com.example.notes.domain.model.NoteSearchHit;
+import com.example.notes.domain.model.NoteSummary;
+import com.example.notes.domain.model.TagFilter;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Full-text search and summaries over compressed bodies, which PostgreSQL cannot inflate: their
+ * terms, prefix and length are written from the decoded text, and so are their headlines. Only
+ * runs with {@code mvn -Ppostgres test}.
+ */
+@QuarkusTest
+@TestProfile(JpaNoteRepositorySearchPostgresTest.CompressionProfile.class)
+@Tag("postgres")
+class JpaNoteRepositorySearchPostgresTest {
+
+    private static final String LONG_BODY = "Notes about the zeppelin hangar. " + "Filler sentence for the body. ".repeat(20);
+
+    @Inject
+    JpaNoteRepository repository;
+
+    @Inject
+    NoteContentCompressionBackfill backfill;
+
+    @Inject
+    EntityManager entityManager;
+
+    @BeforeEach
+    void clean() {
+        QuarkusTransaction.requiringNew().run(() -> NoteJpaEntity.deleteAll());
+    }
+
+    @Test
+    void search_matchesWordOnlyInCompressedBody() {
+        Note note = Note.create("Hangar", LONG_BODY, List.of());
+        QuarkusTransaction.requiringNew().run(() -> repository.insert(note));
+
+        assertTrue(storedCompressed(note.id()));
+        List<NoteSearchHit> hits = search("zeppelin");
+        assertEquals(List.of(note.id()), hits.stream().map(hit -> hit.note().id()).toList());
+        assertEquals(LONG_BODY, hits.get(0).note().content());
+        assertTrue(hits.get(0).snippet().contains("<mark>zeppelin</mark>"), hits.get(0).snippet());
+    }
+
+    @Test
+    void search_matchesCompressedBodiesOfBatchInsert() {
+        Note first = Note.create("First", LONG_BODY, List.of());
+        Note plain = Note.create("Second", "A short zeppelin note", List.of());
+        QuarkusTransaction.requiringNew().run(() -> repository.insertAll(List.of(first, plain)));
+
+        List<NoteSearchHit> hits = search("zeppelin");
+
+        assertEquals(2, hits.size());
+        assertTrue(hits.stream().allMatch(hit -> hit.snippet().contains("<mark>zeppelin</mark>")));
+    }
+
+    @Test
+    void update_toPlainBody_dropsTheCompressedTerms() {
+        Note note = Note.create("Hangar", LONG_BODY, List.of());
+        QuarkusTransaction.requiringNew().run(() -> repository.insert(note));
+
+        QuarkusTransaction.requiringNew().run(() ->
+                repository.update(note.update("Hangar", "Now about a blimp", List.of())));
+
+        assertFalse(storedCompressed(note.id()));
+        assertTrue(search("zeppelin").isEmpty());
+        assertEquals(1, search("blimp").size());
+        assertNull(QuarkusTransaction.requiringNew().call(() -> entityManager
+                .createNativeQuery("SELECT content_search_vector::text FROM note WHERE id = :id")
+                .setParameter("id", note.id().value())
+                .getSingleResult()));
+    }
+
+    @Test
+    void findSummaryPage_withCompressedBody_hasSnippetAndLength() {
+        Note note = Note.create("Hangar", LONG_BODY, List.of());
+        QuarkusTransaction.requiringNew().run(() -> repository.insert(note));
+
+        NoteSummary summary = QuarkusTransaction.requiringNew().call(() ->
+                repository.findSummaryPage(null, TagFilter.none(), 10)).get(0);
+
+        assertTrue(storedCompressed(note.id()));
+        assertEquals(NoteSummary.snippetOf(LONG_BODY.substring(0, NoteSummary.SNIPPET_LENGTH)), summary.snippet());
+        assertEquals(LONG_BODY.length(), summary.contentLength());
+    }
+
+    @Test
+    void backfill_compressesPlainBodiesAndIndexesBodiesCompressedWithoutTerms() {
+        Note plain = Note.create("Plain", LONG_BODY, List.of());
+        Note compressed = Note.create("Compressed", LONG_BODY, List.of());
+        QuarkusTransaction.requiringNew().run(() -> {
+            entityManager.createNativeQuery("""
+                            INSERT INTO note (id, title, content, created_at, updated_at, tags, version)
+                            VALUES (:id, 'Plain', :content, now(), now(), '{}', 0)
+                            """)
+                    .setParameter("id", plain.id().value())
+                    .setParameter("content", LONG_BODY)
+                    .executeUpdate();
+            repository.insert(compressed);
+        });
+        QuarkusTransaction.requiringNew().run(() -> entityManager
+                .createNativeQuery("UPDATE note SET content_search_vector = NULL WHERE id = :id")
+                .setParameter("id", compressed.id().value())
+                .executeUpdate());
+        assertEquals(List.of(plain.id()), search("zeppelin").stream().map(hit -> hit.note().id()).toList());
+
+        assertEquals(2, backfill.backfill());
+
+        assertTrue(storedCompressed(plain.id()));
+        assertEquals(2, search("zeppelin").size());
+        assertTrue(QuarkusTransaction.requiringNew().call(() ->
+                repository.findSummaryPage(null, TagFilter.none(), 10)).stream()
+                .allMatch(summary -> summary.contentLength() == LONG_BODY.length()));
+    }
+
+    private List<NoteSearchHit> search(String text) {
+        return QuarkusTransaction.requiringNew().call(() -> repository.search(text, 10));
+    }
+
+    private boolean storedCompressed(NoteId id) {
+        return QuarkusTransaction.requiringNew().call(() -> (Boolean) entityManager
+                .createNativeQuery("SELECT content IS NULL FROM note WHERE id = :id")
+                .setParameter("id", id.value())
+                .getSingleResult());
+    }
+
+    public static class CompressionProfile extends PostgresTestProfile {
+
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            Map<String, String> overrides = new HashMap<>(super.getConfigOverrides());
+            overrides.put("notes.content-compression.enabled", "true");
+            overrides.put("notes.content-compression.threshold", "256");
+            return overrides;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.notes.infrastructure.adapter.out.persistence;
+
+import com.example.notes.domain.model.Note;
+import com.example.notes.domain.model.NoteId;
+import com.example.notes.domain.model.TagFilter;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the native tag filters against PostgreSQL, since H2 has no {@code @>} / {@code &&} array
+ * operators, and checks that the planner answers a selective filter from the GIN index. Only
+ * runs with {@code mvn -Ppostgres test}.
+ */
+@QuarkusTest
+@TestProfile(PostgresTestProfile.class)
+@Tag("postgres")
+class JpaNoteRepositoryTagFilterPostgresTest {
+
+    private static final int FILLER_NOTES = 5_000;
+
+    @Inject
+    JpaNoteRepository repository;
+
+    @Inject
+    EntityManager entityManager;
+
+    private NoteId workAndUrgent;
+    private NoteId workOnly;
+    private NoteId urgentAndHome;
+
+    @BeforeEach
+    void seed() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            NoteJpaEntity.deleteAll();
+            List<Note> notes = new ArrayList<>();
+            for (int i = 0; i < FILLER_NOTES; i++) {
+                notes.add(Note.create("Filler " + i, "Content", List.of("filler", "batch-" + (i % 50))));
+            }
+            Note first = Note.create("Work and urgent", "Content", List.of("work", "urgent"));
+            Note second = Note.create("Work", "Content", List.of("work"));
+            Note third = Note.create("Urgent at home", "Content", List.of("urgent", "home"));
+            notes.addAll(List.of(first, second, third));
+            repository.insertAll(notes);
+            workAndUrgent = first.id();
+            workOnly = second.id();
+            urgentAndHome = third.id();
+        });
+        QuarkusTransaction.requiringNew().run(() -> entityManager.createNativeQuery("ANALYZE note").executeUpdate());
+    }
+
+    @Test
+    void findPage_withAllMatch_returnsNotesCarryingEveryTag() {
+        Set<NoteId> ids = page(new TagFilter(Set.of("work", "urgent"), TagFilter.Match.ALL));
+
+        assertEquals(Set.of(workAndUrgent), ids);
+    }
+
+    @Test
+    void findPage_withAnyMatch_returnsNotesCarryingAtLeastOneTag() {
+        Set<NoteId> ids = page(new TagFilter(Set.of("work", "home"), TagFilter.Match.ANY));
+
+        assertEquals(Set.of(workAndUrgent, workOnly, urgentAndHome), ids);
+    }
+
+    @Test
+    void findPage_withUnknownTag_returnsNothing() {
+        assertTrue(page(new TagFilter(Set.of("work", "missing"), TagFilter.Match.ALL)).isEmpty());
+    }
+
+    @Test
+    void selectiveTagFilters_areAnsweredFromTheGinIndex() {
+        // Same shape as the statement built for a tagged first page.
+        for (String operator : List.of("@>", "&&")) {
+            String plan = QuarkusTransaction.requiringNew().call(() -> explain(
+                    "SELECT * FROM note WHERE TRUE AND tags " + operator + " CAST(ARRAY['work', 'urgent'] AS TEXT[])"
+                            + " ORDER BY created_at DESC, id DESC LIMIT 50"));
+
+            assertTrue(plan.contains("Bitmap Index Scan on idx_note_tags"), operator + " plan:\n" + plan);
+        }
+    }
+
+    private Set<NoteId> page(TagFilter tags) {
+        return QuarkusTransaction.requiringNew().call(() -> repository.findPage(null, tags, 50)).stream()
+                .map(Note::id)
+                .collect(Collectors.toSet());
+    }
+
+    @SuppressWarnings("unchecked")
+    private String explain(String sql) {
+        List<String> lines = entityManager.createNativeQuery("EXPLAIN " + sql).getResultList();
+        return String.join("\n", lines);
+    }
+}
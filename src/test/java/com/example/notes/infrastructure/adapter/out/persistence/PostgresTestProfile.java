@@ -0,0 +1,28 @@
+package com.example.notes.infrastructure.adapter.out.persistence;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+import java.util.Map;
+
+/**
+ * Swaps the H2 test database for PostgreSQL with the Flyway schema, and turns on the LISTEN/NOTIFY
+ * cache invalidation that H2 cannot run. Dev Services starts the PostgreSQL container, so tests
+ * using this profile need Docker.
+ */
+public class PostgresTestProfile implements QuarkusTestProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        return Map.of(
+            "quarkus.datasource.db-kind", "postgresql",
+            // An empty URL and credentials leave the datasource to Dev Services.
+            "quarkus.datasource.jdbc.url", "",
+            "quarkus.datasource.username", "",
+            "quarkus.datasource.password", "",
+            "quarkus.hibernate-orm.database.generation", "none",
+            "quarkus.flyway.migrate-at-start", "true",
+            "quarkus.flyway.clean-at-start", "true",
+            "notes.cache.invalidation.enabled", "true"
+        );
+    }
+}
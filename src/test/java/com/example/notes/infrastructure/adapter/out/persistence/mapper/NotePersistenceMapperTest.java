@@ -2,10 +2,13 @@ package com.example.notes.infrastructure.adapter.out.persistence.mapper;
 
 import com.example.notes.domain.model.Note;
 import com.example.notes.domain.model.NoteId;
+import com.example.notes.domain.model.NoteSummary;
 import com.example.notes.infrastructure.adapter.out.persistence.NoteJpaEntity;
+import com.example.notes.infrastructure.adapter.out.persistence.NoteSummaryRow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -18,7 +21,7 @@ class NotePersistenceMapperTest {
 
     @BeforeEach
     void setUp() {
-        mapper = new NotePersistenceMapper();
+        mapper = new NotePersistenceMapper(new NoteContentCodec(true, 1024, 1));
     }
 
     @Test
@@ -45,12 +48,12 @@ class NotePersistenceMapperTest {
     }
 
     @Test
-    void toNewJpaEntity_doesNotSetId() {
+    void toNewJpaEntity_keepsDomainGeneratedId() {
         Note note = Note.create("Title", "Content", List.of());
 
         NoteJpaEntity entity = mapper.toNewJpaEntity(note);
 
-        assertNull(entity.id);
+        assertEquals(note.id().value(), entity.id);
     }
 
     @Test
@@ -62,10 +65,12 @@ class NotePersistenceMapperTest {
         entity.createdAt = LocalDateTime.now().minusHours(1);
         entity.updatedAt = LocalDateTime.now();
         entity.tags = List.of("tag1", "tag2");
+        entity.version = 5;
 
         Note note = mapper.toDomainEntity(entity);
 
         assertEquals(entity.id, note.id().value());
+        assertEquals(5, note.version());
         assertEquals("Title", note.title());
         assertEquals("Content", note.content());
         assertEquals(entity.createdAt, note.createdAt());
@@ -106,4 +111,97 @@ class NotePersistenceMapperTest {
         assertEquals(originalNote.updatedAt(), reconstitutedNote.updatedAt());
         assertEquals(originalNote.tags(), reconstitutedNote.tags());
     }
+
+    @Test
+    void toNewJpaEntity_withContentBelowThreshold_storesPlainText() {
+        Note note = Note.create("Title", "x".repeat(1023), List.of());
+
+        NoteJpaEntity entity = mapper.toNewJpaEntity(note);
+
+        assertEquals(note.content(), entity.content);
+        assertNull(entity.contentCompressed);
+    }
+
+    @Test
+    void toNewJpaEntity_withLargeContent_storesCompressedBodyOnly() {
+        Note note = Note.create("Title", "GET /v1/notes 200\n".repeat(1000), List.of());
+
+        NoteJpaEntity entity = mapper.toNewJpaEntity(note);
+
+        assertNull(entity.content);
+        assertNotNull(entity.contentCompressed);
+        assertTrue(entity.contentCompressed.length < note.content().length());
+        assertEquals(note.content(), mapper.toDomainEntity(entity).content());
+    }
+
+    @Test
+    void toNewJpaEntity_withLargeContent_storesPrefixAndUtf8LengthOfTheBody() {
+        String content = "Grüße aus Köln 🎉\n".repeat(1000);
+        Note note = Note.create("Title", content, List.of());
+
+        NoteJpaEntity entity = mapper.toNewJpaEntity(note);
+
+        assertNotNull(entity.contentCompressed);
+        assertEquals(content.substring(0, content.offsetByCodePoints(0, NoteSummary.SNIPPET_LENGTH)), entity.contentPrefix);
+        assertEquals(content.getBytes(StandardCharsets.UTF_8).length, entity.contentLength);
+    }
+
+    @Test
+    void contentPrefixOf_countsCodePointsLikePostgresSubstring() {
+        String content = "x".repeat(NoteSummary.SNIPPET_LENGTH - 1) + "🎉 and more";
+
+        assertEquals("x".repeat(NoteSummary.SNIPPET_LENGTH - 1) + "🎉", NotePersistenceMapper.contentPrefixOf(content));
+        assertEquals("🎉".repeat(NoteSummary.SNIPPET_LENGTH), NotePersistenceMapper.contentPrefixOf("🎉".repeat(NoteSummary.SNIPPET_LENGTH + 1)));
+        assertEquals("Short", NotePersistenceMapper.contentPrefixOf("Short"));
+    }
+
+    @Test
+    void updateJpaEntity_withSmallContent_clearsCompressedBody() {
+        Note note = Note.create("Title", "GET /v1/notes 200\n".repeat(1000), List.of());
+        NoteJpaEntity entity = mapper.toNewJpaEntity(note);
+
+        mapper.updateJpaEntity(entity, note.update("Title", "Short", List.of()));
+
+        assertEquals("Short", entity.content);
+        assertNull(entity.contentCompressed);
+        assertEquals("Short", entity.contentPrefix);
+        assertEquals(5, entity.contentLength);
+    }
+
+    @Test
+    void toDomainEntity_withCompressionDisabled_stillReadsCompressedBody() {
+        Note note = Note.create("Title", "GET /v1/notes 200\n".repeat(1000), List.of());
+        NoteJpaEntity entity = mapper.toNewJpaEntity(note);
+
+        Note read = new NotePersistenceMapper(new NoteContentCodec(false, 1024, 1)).toDomainEntity(entity);
+
+        assertEquals(note.content(), read.content());
+    }
+
+    @Test
+    void toDomainSummary_collapsesSnippetWhitespaceAndKeepsContentLength() {
+        LocalDateTime now = LocalDateTime.now();
+        NoteSummaryRow row = new NoteSummaryRow(
+                UUID.randomUUID(), "Title", new String[] {"tag1"}, now, now, 2L, "  First line\n\n\tsecond line ", 512);
+
+        NoteSummary summary = mapper.toDomainSummary(row);
+
+        assertEquals(row.id(), summary.id().value());
+        assertEquals("First line second line", summary.snippet());
+        assertEquals(512, summary.contentLength());
+        assertEquals(List.of("tag1"), summary.tags());
+        assertEquals(2L, summary.version());
+    }
+
+    @Test
+    void toDomainSummary_withoutStoredPrefix_hasNoSnippetOrLength() {
+        LocalDateTime now = LocalDateTime.now();
+        NoteSummaryRow row = new NoteSummaryRow(UUID.randomUUID(), "Title", null, now, now, 0L, null, null);
+
+        NoteSummary summary = mapper.toDomainSummary(row);
+
+        assertNull(summary.snippet());
+        assertNull(summary.contentLength());
+        assertTrue(summary.tags().isEmpty());
+    }
 }